@@ -77,7 +77,99 @@ public enum Configurations implements Supplier<String> {
      * explicitly manage multi-field sorting during cursor-based pagination.</p>
      * <p>To enable, set: <code>org.eclipse.jnosql.pagination.cursor=true</code></p>
      */
-    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor");
+    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor"),
+
+    /**
+     * Configuration for the maximum number of parsed queries kept in the query plan cache.
+     * <p>The query plan cache is shared by the JDQL and the method-name query providers. Once the limit is reached,
+     * the least recently used plan is evicted. The default value is 1000 entries.</p>
+     * <p>Example: <code>org.eclipse.jnosql.query.cache.size=5000</code></p>
+     */
+    QUERY_CACHE_MAX_SIZE("org.eclipse.jnosql.query.cache.size"),
+
+    /**
+     * Configuration for the time, in seconds, that a parsed query stays in the query plan cache without being read.
+     * <p>By default, the entries never expire and are only evicted by size.</p>
+     * <p>Example: <code>org.eclipse.jnosql.query.cache.expire=600</code></p>
+     */
+    QUERY_CACHE_EXPIRE_AFTER_ACCESS("org.eclipse.jnosql.query.cache.expire"),
+
+    /**
+     * Configuration for the number of entities sent to the database on each call when inserting or updating
+     * a collection of entities, or the number of keys read on each call of a key-value multi-get.
+     * <p>The templates split the entities, or the keys, into chunks of this size and hand each chunk to the bulk
+     * methods of the manager. The default value is 1000.</p>
+     * <p>Example: <code>org.eclipse.jnosql.batch.size=500</code></p>
+     */
+    BATCH_SIZE("org.eclipse.jnosql.batch.size"),
+
+    /**
+     * Configuration for the maximum number of chunks a key-value multi-get reads at the same time.
+     * <p>When the keys do not fit in a single chunk, see {@link #BATCH_SIZE}, the chunks are read on virtual threads
+     * up to this limit. The default value is 1, which reads one chunk after the other.</p>
+     * <p>Example: <code>org.eclipse.jnosql.keyvalue.get.parallelism=4</code></p>
+     */
+    KEY_VALUE_GET_PARALLELISM("org.eclipse.jnosql.keyvalue.get.parallelism"),
+
+    /**
+     * Configuration for the packages, separated by commas, scanned to find entities, embeddables, projections
+     * and repositories.
+     * <p>It is only used when the class path has no index generated at build time by the annotation processor of the
+     * reflection module. By default, the whole class path is scanned.</p>
+     * <p>Example: <code>org.eclipse.jnosql.scan.packages=com.acme.model,com.acme.repository</code></p>
+     */
+    SCAN_PACKAGES("org.eclipse.jnosql.scan.packages"),
+
+    /**
+     * Configuration to warn when an operation falls back to the client side, such as a count that streams
+     * every matching entity because the database manager keeps the default implementation of the count.
+     * <p>The default implementations of the semi-structured database manager read it as a system property and warn
+     * once per operation and manager type. The default value is false.</p>
+     * <p>Example: <code>org.eclipse.jnosql.diagnostics=true</code></p>
+     */
+    DIAGNOSTICS("org.eclipse.jnosql.diagnostics"),
+
+    /**
+     * Configuration to count the total of an offset-based page at the same time as the page is fetched.
+     * <p>When enabled and the page request asks for the total, the count runs on the executor of the template,
+     * a virtual thread by default, concurrently with the page query, and the page answers {@code totalElements()} and {@code totalPages()}.
+     * The default value is false.</p>
+     * <p>Example: <code>org.eclipse.jnosql.pagination.total=true</code></p>
+     */
+    PAGINATION_TOTAL("org.eclipse.jnosql.pagination.total"),
+
+    /**
+     * Configuration for how long, in milliseconds, the total of an offset-based page is reused,
+     * see {@link #PAGINATION_TOTAL}.
+     * <p>Walking through the pages of the same query reuses the total instead of counting it again. Writes within
+     * this period are not reflected in the total. The default value is 0, which counts the total on every page.</p>
+     * <p>Example: <code>org.eclipse.jnosql.pagination.total.cache=5000</code></p>
+     */
+    PAGINATION_TOTAL_CACHE("org.eclipse.jnosql.pagination.total.cache"),
+
+    /**
+     * Configuration for the maximum number of operations an asynchronous template runs at the same time.
+     * <p>Each operation runs on a virtual thread, and the operations beyond this limit wait for a running one to
+     * finish, so a burst of calls does not open more requests than the database accepts. The default value is 64.</p>
+     * <p>Example: <code>org.eclipse.jnosql.async.concurrency=16</code></p>
+     */
+    ASYNC_CONCURRENCY("org.eclipse.jnosql.async.concurrency"),
+
+    /**
+     * Configuration for how long, in milliseconds, a write-behind bucket manager keeps the puts before it writes them.
+     * <p>The puts to the same key within this window are coalesced into a single write, and the pending puts are
+     * written in batches of {@link #BATCH_SIZE}. The default value is 100.</p>
+     * <p>Example: <code>org.eclipse.jnosql.keyvalue.write.behind.window=50</code></p>
+     */
+    KEY_VALUE_WRITE_BEHIND_WINDOW("org.eclipse.jnosql.keyvalue.write.behind.window"),
+
+    /**
+     * Configuration for the maximum number of keys a write-behind bucket manager keeps waiting to be written.
+     * <p>When the queue is full, a put to a new key waits until the pending puts are written, see
+     * {@link #KEY_VALUE_WRITE_BEHIND_WINDOW}. The default value is 10000.</p>
+     * <p>Example: <code>org.eclipse.jnosql.keyvalue.write.behind.queue=5000</code></p>
+     */
+    KEY_VALUE_WRITE_BEHIND_QUEUE("org.eclipse.jnosql.keyvalue.write.behind.queue");
 
     private final String configuration;
 
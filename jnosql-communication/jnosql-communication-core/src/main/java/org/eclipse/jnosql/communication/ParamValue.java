@@ -27,10 +27,26 @@ public final class ParamValue implements Value {
         this.name = name;
     }
 
+    ParamValue(String name, Object value) {
+        this.name = name;
+        this.value = value;
+    }
+
     void setValue(Object value) {
         this.value = value;
     }
 
+    /**
+     * Returns a new parameter with the same name and the given value; this parameter does not change, so it can
+     * be shared by the queries that bind their own values.
+     *
+     * @param value the value, it might be null
+     * @return a new {@link ParamValue} instance
+     */
+    public ParamValue bind(Object value) {
+        return new ParamValue(name, value);
+    }
+
     @Override
     public Object get() {
         validValue();
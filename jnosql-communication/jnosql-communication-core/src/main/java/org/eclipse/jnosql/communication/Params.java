@@ -18,7 +18,9 @@ package org.eclipse.jnosql.communication;
 
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -31,6 +33,8 @@ public final class Params {
 
     private final List<ParamValue> parameters = new ArrayList<>();
 
+    private final Map<String, List<ParamValue>> names = new HashMap<>();
+
 
     /**
      * @return if the params list is not empty
@@ -48,18 +52,24 @@ public final class Params {
     public Value add(String param) {
         ParamValue value = new ParamValue(param);
         parameters.add(value);
+        names.computeIfAbsent(param, k -> new ArrayList<>(1)).add(value);
         return value;
     }
 
     /**
-     * set the value from the name
+     * set the value from the name. The parameters with exactly this name are found by a lookup; when there is none,
+     * the value is set to the parameters whose name starts with the name.
      *
      * @param name  the name
      * @param value the value
      */
     public void bind(String name, Object value) {
+        List<ParamValue> values = names.get(name);
+        if (values != null) {
+            values.forEach(p -> p.setValue(value));
+            return;
+        }
         parameters.stream().filter(p -> p.getName().startsWith(name)).forEach(p -> p.setValue(value));
-
     }
 
     /**
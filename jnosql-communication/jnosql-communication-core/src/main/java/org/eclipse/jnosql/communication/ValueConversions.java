@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.eclipse.jnosql.communication.reader.BigDecimalReader;
+import org.eclipse.jnosql.communication.reader.BooleanReader;
+import org.eclipse.jnosql.communication.reader.ByteReader;
+import org.eclipse.jnosql.communication.reader.DoubleReader;
+import org.eclipse.jnosql.communication.reader.FloatReader;
+import org.eclipse.jnosql.communication.reader.InstantReader;
+import org.eclipse.jnosql.communication.reader.IntegerReader;
+import org.eclipse.jnosql.communication.reader.LongReader;
+import org.eclipse.jnosql.communication.reader.ShortReader;
+import org.eclipse.jnosql.communication.reader.UUIDValueReader;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Compiles the conversion of a value from a source class to a target class once the {@link ValueReader} is known.
+ * When the reader is one of the built-in readers, the common scalar conversions run as a direct function, and a
+ * boxed value read as its primitive type returns the value itself; any other pair goes through the reader.
+ */
+final class ValueConversions {
+
+    private static final Function<Object, Object> IDENTITY = Function.identity();
+
+    private static final Set<Class<?>> PRIMITIVE_READERS = Set.of(LongReader.class, IntegerReader.class,
+            ShortReader.class, ByteReader.class, DoubleReader.class, FloatReader.class, BooleanReader.class);
+
+    private static final Map<Class<?>, Function<Object, Object>> FROM_NUMBER = Map.of(
+            LongReader.class, value -> ((Number) value).longValue(),
+            IntegerReader.class, value -> ((Number) value).intValue(),
+            ShortReader.class, value -> ((Number) value).shortValue(),
+            ByteReader.class, value -> ((Number) value).byteValue(),
+            DoubleReader.class, value -> ((Number) value).doubleValue(),
+            FloatReader.class, value -> ((Number) value).floatValue(),
+            BigDecimalReader.class, value -> BigDecimal.valueOf(((Number) value).doubleValue()),
+            InstantReader.class, value -> Instant.ofEpochMilli(((Number) value).longValue()));
+
+    private static final Map<Class<?>, Function<Object, Object>> FROM_STRING = Map.of(
+            LongReader.class, value -> Long.valueOf((String) value),
+            IntegerReader.class, value -> Integer.valueOf((String) value),
+            ShortReader.class, value -> Short.valueOf((String) value),
+            ByteReader.class, value -> Byte.valueOf((String) value),
+            DoubleReader.class, value -> Double.valueOf((String) value),
+            FloatReader.class, value -> Float.valueOf((String) value),
+            BigDecimalReader.class, value -> BigDecimal.valueOf(Double.parseDouble((String) value)),
+            InstantReader.class, value -> Instant.parse((String) value),
+            UUIDValueReader.class, ValueConversions::uuid);
+
+    private ValueConversions() {
+    }
+
+    /**
+     * Returns the conversion from the source class to the target class.
+     *
+     * @param reader the reader that supports the target class
+     * @param source the class of the value
+     * @param target the class to convert to
+     * @return the conversion function
+     */
+    static Function<Object, Object> of(ValueReader reader, Class<?> source, Class<?> target) {
+        Class<?> readerType = reader.getClass();
+        if (target.isPrimitive() && PRIMITIVE_READERS.contains(readerType) && wrapper(target).equals(source)) {
+            return IDENTITY;
+        }
+        Function<Object, Object> conversion = null;
+        if (Number.class.isAssignableFrom(source)) {
+            conversion = FROM_NUMBER.get(readerType);
+        } else if (String.class.equals(source)) {
+            conversion = FROM_STRING.get(readerType);
+        }
+        if (conversion != null) {
+            return conversion;
+        }
+        return value -> reader.read(target, value);
+    }
+
+    private static Class<?> wrapper(Class<?> primitive) {
+        return switch (primitive.getName()) {
+            case "long" -> Long.class;
+            case "int" -> Integer.class;
+            case "short" -> Short.class;
+            case "byte" -> Byte.class;
+            case "double" -> Double.class;
+            case "float" -> Float.class;
+            case "boolean" -> Boolean.class;
+            default -> primitive;
+        };
+    }
+
+    private static UUID uuid(Object value) {
+        try {
+            return UUID.fromString((String) value);
+        } catch (IllegalArgumentException exp) {
+            throw new CommunicationException("There is an error to convert to UUID, because the value is not UUID "
+                    + "format: " + value, exp);
+        }
+    }
+}
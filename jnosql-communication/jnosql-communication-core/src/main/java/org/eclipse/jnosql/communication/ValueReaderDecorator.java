@@ -23,16 +23,28 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
+ * Decorators of all {@link ValueReader} supported by Jakarta NoSQL.
+ * <p>
+ * The reader of each target class is resolved once, and the conversion of each pair of value class and target
+ * class is compiled once and reused, so a read only looks the conversion up and applies it.
+ * </p>
  *
  * @see ValueReader
  */
 public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
-    private final Map<Class<?>, ValueReader> cache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<ValueReader>> cache = new ConcurrentHashMap<>();
+
+    private final ClassValue<Map<Class<?>, Function<Object, Object>>> conversions = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Function<Object, Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private final List<ValueReader> readers = new ArrayList<>();
 
@@ -48,24 +60,34 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return getReader(type).isPresent();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T read(Class<T> type, Object value) {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = getReader(type)
-                .orElseThrow(() -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
+        if (value == null) {
+            return reader(type).read(type, value);
+        }
+        Map<Class<?>, Function<Object, Object>> conversions = this.conversions.get(type);
+        Function<Object, Object> conversion = conversions.get(value.getClass());
+        if (conversion == null) {
+            conversion = conversions.computeIfAbsent(value.getClass(),
+                    source -> ValueConversions.of(reader(type), source, type));
+        }
+        return (T) conversion.apply(value);
+    }
 
-        return valueReader.read(type, value);
+    private ValueReader reader(Class<?> type) {
+        return getReader(type)
+                .orElseThrow(() -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
     }
 
     private Optional<ValueReader> getReader(Class<?> type) {
-        return Optional.ofNullable(cache.computeIfAbsent(type, t ->
-                readers.stream().filter(r -> r.test(t)).findFirst().orElse(null)
-        ));
+        return cache.computeIfAbsent(type, t -> readers.stream().filter(r -> r.test(t)).findFirst());
     }
 
 
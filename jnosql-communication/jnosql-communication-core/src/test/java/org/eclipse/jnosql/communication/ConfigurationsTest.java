@@ -24,12 +24,23 @@ import java.util.Map;
 
 class ConfigurationsTest {
 
-    private static final Map<Configurations, String> EXPECTED_VALUES = Map.of(
-            Configurations.USER, "jakarta.nosql.user",
-            Configurations.PASSWORD, "jakarta.nosql.password",
-            Configurations.HOST, "jakarta.nosql.host",
-            Configurations.ENCRYPTION, "jakarta.nosql.settings.encryption",
-            Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING, "org.eclipse.jnosql.pagination.cursor"
+    private static final Map<Configurations, String> EXPECTED_VALUES = Map.ofEntries(
+            Map.entry(Configurations.USER, "jakarta.nosql.user"),
+            Map.entry(Configurations.PASSWORD, "jakarta.nosql.password"),
+            Map.entry(Configurations.HOST, "jakarta.nosql.host"),
+            Map.entry(Configurations.ENCRYPTION, "jakarta.nosql.settings.encryption"),
+            Map.entry(Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING, "org.eclipse.jnosql.pagination.cursor"),
+            Map.entry(Configurations.QUERY_CACHE_MAX_SIZE, "org.eclipse.jnosql.query.cache.size"),
+            Map.entry(Configurations.QUERY_CACHE_EXPIRE_AFTER_ACCESS, "org.eclipse.jnosql.query.cache.expire"),
+            Map.entry(Configurations.BATCH_SIZE, "org.eclipse.jnosql.batch.size"),
+            Map.entry(Configurations.KEY_VALUE_GET_PARALLELISM, "org.eclipse.jnosql.keyvalue.get.parallelism"),
+            Map.entry(Configurations.SCAN_PACKAGES, "org.eclipse.jnosql.scan.packages"),
+            Map.entry(Configurations.DIAGNOSTICS, "org.eclipse.jnosql.diagnostics"),
+            Map.entry(Configurations.PAGINATION_TOTAL, "org.eclipse.jnosql.pagination.total"),
+            Map.entry(Configurations.PAGINATION_TOTAL_CACHE, "org.eclipse.jnosql.pagination.total.cache"),
+            Map.entry(Configurations.ASYNC_CONCURRENCY, "org.eclipse.jnosql.async.concurrency"),
+            Map.entry(Configurations.KEY_VALUE_WRITE_BEHIND_WINDOW, "org.eclipse.jnosql.keyvalue.write.behind.window"),
+            Map.entry(Configurations.KEY_VALUE_WRITE_BEHIND_QUEUE, "org.eclipse.jnosql.keyvalue.write.behind.queue")
     );
 
     @ParameterizedTest
@@ -63,6 +63,39 @@ class ParamsTest {
         Assertions.assertEquals("Ada", value.get());
     }
 
+    @Test
+    void shouldBindExactName() {
+        Params params = Params.newParams();
+        Value first = params.add("?1");
+        Value tenth = params.add("?10");
+        params.bind("?10", "Poliana");
+        params.bind("?1", "Ada");
+        assertSoftly(softly -> {
+            softly.assertThat(first.get()).isEqualTo("Ada");
+            softly.assertThat(tenth.get()).isEqualTo("Poliana");
+        });
+    }
+
+    @Test
+    void shouldBindByPrefixWhenThereIsNoExactName() {
+        Params params = Params.newParams();
+        Value value = params.add("name_2342342");
+        params.bind("name", "Ada");
+        Assertions.assertEquals("Ada", value.get());
+    }
+
+    @Test
+    void shouldBindCopyOfParamValue() {
+        Params params = Params.newParams();
+        ParamValue value = (ParamValue) params.add("name");
+        ParamValue bound = value.bind("Ada");
+        assertSoftly(softly -> {
+            softly.assertThat(bound.get()).isEqualTo("Ada");
+            softly.assertThat(bound.getName()).isEqualTo("name");
+            softly.assertThat(value.isEmpty()).isTrue();
+        });
+    }
+
     @Nested
     @DisplayName("Given an empty Params")
     class GivenEmptyParamsTest {
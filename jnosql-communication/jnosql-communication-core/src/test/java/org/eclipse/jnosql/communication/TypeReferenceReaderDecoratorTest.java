@@ -19,6 +19,9 @@ package org.eclipse.jnosql.communication;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 class TypeReferenceReaderDecoratorTest {
 
     @Test
@@ -27,4 +30,25 @@ class TypeReferenceReaderDecoratorTest {
 
         Assertions.assertThat(reader.toString()).isNotNull().isNotEmpty();
     }
+
+    @Test
+    void shouldConvertWithDifferentReferencesOfTheSameType() {
+        TypeReferenceReaderDecorator reader = TypeReferenceReaderDecorator.getInstance();
+
+        List<Integer> first = reader.convert(new TypeReference<List<Integer>>() {}, List.of("1", "2"));
+        List<Integer> second = reader.convert(new TypeReference<List<Integer>>() {}, List.of(3L));
+
+        Assertions.assertThat(first).containsExactly(1, 2);
+        Assertions.assertThat(second).containsExactly(3);
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        TypeReferenceReaderDecorator reader = TypeReferenceReaderDecorator.getInstance();
+        TypeReference<Supplier<String>> supplier = new TypeReference<>() {};
+
+        Assertions.assertThat(reader.test(supplier)).isFalse();
+        Assertions.assertThatThrownBy(() -> reader.convert(supplier, "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
 }
\ No newline at end of file
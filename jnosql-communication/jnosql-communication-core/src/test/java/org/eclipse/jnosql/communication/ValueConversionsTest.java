@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.reader.BooleanReader;
+import org.eclipse.jnosql.communication.reader.InstantReader;
+import org.eclipse.jnosql.communication.reader.IntegerReader;
+import org.eclipse.jnosql.communication.reader.LongReader;
+import org.eclipse.jnosql.communication.reader.UUIDValueReader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueConversionsTest {
+
+    @Test
+    void shouldReturnValueWhenReadingBoxedValueAsPrimitive() {
+        Long value = 10L;
+        Function<Object, Object> conversion = ValueConversions.of(new LongReader(), Long.class, long.class);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(conversion.apply(value)).isSameAs(value);
+            softly.assertThat(ValueConversions.of(new BooleanReader(), Boolean.class, boolean.class)
+                    .apply(Boolean.TRUE)).isEqualTo(true);
+        });
+    }
+
+    @Test
+    void shouldConvertNumbers() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ValueConversions.of(new LongReader(), Integer.class, long.class).apply(10))
+                    .isEqualTo(10L);
+            softly.assertThat(ValueConversions.of(new IntegerReader(), BigInteger.class, Integer.class)
+                    .apply(BigInteger.TEN)).isEqualTo(10);
+            softly.assertThat(ValueConversions.of(new InstantReader(), Long.class, Instant.class).apply(1000L))
+                    .isEqualTo(Instant.ofEpochSecond(1));
+        });
+    }
+
+    @Test
+    void shouldConvertStrings() {
+        UUID id = UUID.randomUUID();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ValueConversions.of(new IntegerReader(), String.class, int.class).apply("12"))
+                    .isEqualTo(12);
+            softly.assertThat(ValueConversions.of(new UUIDValueReader(), String.class, UUID.class)
+                    .apply(id.toString())).isEqualTo(id);
+            softly.assertThat(ValueConversions.of(new InstantReader(), String.class, Instant.class)
+                    .apply("2025-01-01T00:00:00Z")).isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenStringIsNotUUID() {
+        Function<Object, Object> conversion = ValueConversions.of(new UUIDValueReader(), String.class, UUID.class);
+        assertThatThrownBy(() -> conversion.apply("not-uuid"))
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldUseTheReaderWhenThereIsNoDirectConversion() {
+        ValueReader reader = new ValueReader() {
+            @Override
+            public boolean test(Class<?> type) {
+                return Long.class.equals(type);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T read(Class<T> type, Object value) {
+                return (T) Long.valueOf(42L);
+            }
+        };
+        assertThat(ValueConversions.of(reader, Integer.class, Long.class).apply(10)).isEqualTo(42L);
+    }
+}
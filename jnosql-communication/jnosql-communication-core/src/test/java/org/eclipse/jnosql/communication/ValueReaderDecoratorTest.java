@@ -77,6 +77,26 @@ class ValueReaderDecoratorTest {
         });
     }
 
+    @Test
+    @DisplayName("Should convert the same target from different value classes")
+    void shouldConvertFromDifferentClasses() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(reader.read(long.class, 10)).isEqualTo(10L);
+            soft.assertThat(reader.read(long.class, "20")).isEqualTo(20L);
+            soft.assertThat(reader.read(long.class, 30L)).isEqualTo(30L);
+            soft.assertThat(reader.read(long.class, 40)).isEqualTo(40L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep returning the error when class is not supported")
+    void shouldReturnErrorAgainWhenTypeIsNotSupported() {
+        assertThat(reader.test(Bean.class)).isFalse();
+        assertThatThrownBy(() -> reader.read(Bean.class, 10)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> reader.read(Bean.class, 10)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(reader.test(Bean.class)).isFalse();
+    }
+
     @Test
     void shouldTestToString() {
         assertThat(reader.toString()).isNotNull().isNotEmpty();
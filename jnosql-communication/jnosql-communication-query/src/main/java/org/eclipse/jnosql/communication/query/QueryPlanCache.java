@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A size-bounded cache shared by the query providers that keeps the parsed query plans, the
+ * {@link SelectQuery}, {@link UpdateQuery} and {@link DeleteQuery}, keyed by the query text and the entity name.
+ * Once the cache reaches its maximum size, the least recently used plan is evicted, and optionally,
+ * a plan that was not read for longer than the expiration time is discarded.
+ * <p>The plans live in an access-ordered {@link LinkedHashMap} guarded by a lock, so a hit moves the plan to the
+ * end and an insertion evicts from the head, both in constant time. The loader runs outside the lock.</p>
+ * <p>The limits are defined by {@link Configurations#QUERY_CACHE_MAX_SIZE} and
+ * {@link Configurations#QUERY_CACHE_EXPIRE_AFTER_ACCESS}, see {@link #configure(Settings)}.
+ * The hits, misses and evictions are available at {@link #stats()}.</p>
+ */
+public enum QueryPlanCache {
+
+    INSTANCE;
+
+    /**
+     * The default maximum number of plans kept in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final Logger LOGGER = Logger.getLogger(QueryPlanCache.class.getName());
+
+    /**
+     * The kind of query plan stored in the cache; it keeps apart plans that share the same text.
+     */
+    public enum Kind {
+        SELECT, UPDATE, DELETE, SELECT_METHOD, DELETE_METHOD
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private volatile long expireAfterAccessNanos;
+
+    /**
+     * Returns the cached plan or parses and caches it using the loader.
+     * The loader runs without any lock, so two threads may parse the same query at once, but only one plan is kept.
+     *
+     * @param kind   the kind of query
+     * @param query  the query text or the method name
+     * @param entity the entity name, it might be null
+     * @param loader the parser that creates the plan when it is not in the cache
+     * @param <T>    the plan type
+     * @return the query plan
+     * @throws NullPointerException when kind, query or loader is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Kind kind, String query, String entity, Supplier<T> loader) {
+        Objects.requireNonNull(kind, "kind is required");
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(loader, "loader is required");
+        var key = new Key(kind, query, entity);
+        lock.lock();
+        try {
+            var entry = entries.get(key);
+            if (entry != null) {
+                var now = System.nanoTime();
+                if (!isExpired(entry, now)) {
+                    entry.lastAccess = now;
+                    hits.increment();
+                    return (T) entry.value;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        T value = loader.get();
+        lock.lock();
+        try {
+            var current = entries.putIfAbsent(key, new Entry(value, System.nanoTime()));
+            if (current != null) {
+                return (T) current.value;
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * Defines the cache limits. When the new size is smaller than the current one, the least recently used plans are
+     * evicted right away.
+     *
+     * @param maxSize           the maximum number of plans, it must be positive
+     * @param expireAfterAccess the time a plan stays in the cache without being read; {@link Duration#ZERO} or null
+     *                          means the plans never expire
+     * @throws IllegalArgumentException when maxSize is not positive or expireAfterAccess is negative
+     */
+    public void configure(int maxSize, Duration expireAfterAccess) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The query cache max size must be positive: " + maxSize);
+        }
+        if (expireAfterAccess != null && expireAfterAccess.isNegative()) {
+            throw new IllegalArgumentException("The query cache expiration cannot be negative: " + expireAfterAccess);
+        }
+        this.maxSize = maxSize;
+        this.expireAfterAccessNanos = expireAfterAccess == null ? 0L : expireAfterAccess.toNanos();
+        lock.lock();
+        try {
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.fine(() -> "The query plan cache was configured with max size " + maxSize
+                + " and expiration " + expireAfterAccess);
+    }
+
+    /**
+     * Defines the cache limits from the {@link Configurations#QUERY_CACHE_MAX_SIZE} and
+     * {@link Configurations#QUERY_CACHE_EXPIRE_AFTER_ACCESS} properties; missing properties use the defaults.
+     *
+     * @param settings the settings
+     * @throws NullPointerException when settings is null
+     */
+    public void configure(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int size = settings.get(Configurations.QUERY_CACHE_MAX_SIZE, Integer.class).orElse(DEFAULT_MAX_SIZE);
+        long seconds = settings.get(Configurations.QUERY_CACHE_EXPIRE_AFTER_ACCESS, Long.class).orElse(0L);
+        configure(size, Duration.ofSeconds(seconds));
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the cache statistics
+     */
+    public QueryPlanCacheStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new QueryPlanCacheStats(hits.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    /**
+     * Removes all the plans and resets the counters.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        long expiration = expireAfterAccessNanos;
+        return expiration > 0 && now - entry.lastAccess > expiration;
+    }
+
+    /**
+     * Removes the least recently used plans above the maximum size and the expired ones at the head; it must run
+     * under the lock.
+     */
+    private void evict() {
+        var now = System.nanoTime();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (eldest.hasNext()) {
+            var entry = eldest.next();
+            if (entries.size() <= maxSize && !isExpired(entry, now)) {
+                return;
+            }
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Key(Kind kind, String query, String entity) {
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private long lastAccess;
+
+        private Entry(Object value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlanCache{" + stats() + '}';
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * A snapshot of the {@link QueryPlanCache} counters.
+ *
+ * @param hits      the number of lookups that found a plan
+ * @param misses    the number of lookups that parsed the query
+ * @param evictions the number of plans removed by size or expiration
+ * @param size      the current number of plans
+ * @param maxSize   the maximum number of plans
+ */
+public record QueryPlanCacheStats(long hits, long misses, long evictions, int size, int maxSize) {
+
+    /**
+     * Returns the ratio of lookups that found a plan, or zero when there was no lookup.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0D : (double) hits / requests;
+    }
+}
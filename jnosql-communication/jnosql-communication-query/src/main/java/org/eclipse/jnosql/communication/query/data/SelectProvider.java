@@ -11,17 +11,16 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
+import org.eclipse.jnosql.communication.query.QueryPlanCache;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
  * A provider for creating and caching {@link SelectQuery} instances based on a query string and an entity name. This
- * implementation uses a concurrent map to cache the queries for performance optimization. The queries are parsed using
- * the {@link SelectParser}.
+ * implementation uses the bounded {@link QueryPlanCache} to cache the queries for performance optimization.
+ * The queries are parsed using the {@link SelectParser}.
  *
  * @see SelectParser
  */
@@ -29,15 +28,10 @@ public enum SelectProvider implements BiFunction<String, String, SelectQuery> {
 
     INSTANCE;
 
-    private final Map<String, SelectQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
-
-        String key = query + "::" + (entity == null ? "<null>" : entity);
-        return cache.computeIfAbsent(key, k -> {
+        return QueryPlanCache.INSTANCE.get(QueryPlanCache.Kind.SELECT, query, entity, () -> {
             var selectParser = new SelectParser();
             return selectParser.apply(query, entity);
         });
@@ -11,16 +11,16 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
+import org.eclipse.jnosql.communication.query.QueryPlanCache;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
- * A provider for creating and caching {@link UpdateQuery} instances based on a query string. This implementation uses a
- * concurrent map to cache the queries for performance optimization. The queries are parsed using the {@link UpdateParser}.
+ * A provider for creating and caching {@link UpdateQuery} instances based on a query string. This implementation uses the
+ * bounded {@link QueryPlanCache} to cache the queries for performance optimization. The queries are parsed using the
+ * {@link UpdateParser}.
  *
  * @see UpdateParser
  */
@@ -28,13 +28,10 @@ public enum UpdateProvider implements Function<String, UpdateQuery> {
 
     INSTANCE;
 
-    private final Map<String, UpdateQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public UpdateQuery apply(String query) {
         Objects.requireNonNull(query, " query is required");
-        return cache.computeIfAbsent(query, k -> {
+        return QueryPlanCache.INSTANCE.get(QueryPlanCache.Kind.UPDATE, query, null, () -> {
             var updateParser = new UpdateParser();
             return updateParser.apply(query);
         });
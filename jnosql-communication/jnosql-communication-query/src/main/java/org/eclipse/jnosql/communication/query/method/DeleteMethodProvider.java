@@ -13,11 +13,10 @@ package org.eclipse.jnosql.communication.query.method;
 
 
 import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.QueryPlanCache;
 
 import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -30,8 +29,6 @@ import java.util.function.BiFunction;
 public enum DeleteMethodProvider implements BiFunction<Method, String, DeleteQuery> {
     INSTANCE;
 
-    private final Map<String, DeleteQuery> cache = new ConcurrentHashMap<>();
-
     @Override
     public DeleteQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
@@ -42,8 +39,7 @@ public enum DeleteMethodProvider implements BiFunction<Method, String, DeleteQue
     public DeleteQuery apply(String methodName, String entity) {
         Objects.requireNonNull(methodName, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        String key = methodName + "::" + entity;
-        return cache.computeIfAbsent(key, k -> {
+        return QueryPlanCache.INSTANCE.get(QueryPlanCache.Kind.DELETE_METHOD, methodName, entity, () -> {
             DeleteByMethodQueryParser provider = new DeleteByMethodQueryParser();
             return provider.apply(methodName, entity);
         });
@@ -12,21 +12,17 @@
 package org.eclipse.jnosql.communication.query.method;
 
 
+import org.eclipse.jnosql.communication.query.QueryPlanCache;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
 import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 public enum SelectMethodProvider implements BiFunction<Method, String, SelectQuery> {
 
     INSTANCE;
 
-    private final Map<String, SelectQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
@@ -37,9 +33,7 @@ public enum SelectMethodProvider implements BiFunction<Method, String, SelectQue
     public SelectQuery apply(String methodName, String entity) {
         Objects.requireNonNull(methodName, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        var key = methodName + "::" + entity;
-
-        return cache.computeIfAbsent(key, k -> {
+        return QueryPlanCache.INSTANCE.get(QueryPlanCache.Kind.SELECT_METHOD, methodName, entity, () -> {
             SelectMethodQueryParser provider = new SelectMethodQueryParser();
             return provider.apply(methodName, entity);
         });
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class QueryPlanCacheTest {
+
+    private final QueryPlanCache cache = QueryPlanCache.INSTANCE;
+
+    @BeforeEach
+    void setUp() {
+        cache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.configure(QueryPlanCache.DEFAULT_MAX_SIZE, Duration.ZERO);
+        cache.clear();
+    }
+
+    @Test
+    void shouldReturnCachedPlan() {
+        var loads = new AtomicInteger();
+        var first = cache.get(QueryPlanCache.Kind.SELECT, "FROM users", null, () -> "plan-" + loads.incrementAndGet());
+        var second = cache.get(QueryPlanCache.Kind.SELECT, "FROM users", null, () -> "plan-" + loads.incrementAndGet());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isEqualTo("plan-1");
+            soft.assertThat(second).isSameAs(first);
+            soft.assertThat(cache.stats().hits()).isEqualTo(1L);
+            soft.assertThat(cache.stats().misses()).isEqualTo(1L);
+            soft.assertThat(cache.stats().hitRatio()).isEqualTo(0.5D);
+        });
+    }
+
+    @Test
+    void shouldSeparatePlansByKindAndEntity() {
+        var select = cache.get(QueryPlanCache.Kind.SELECT, "findByName", "Person", () -> "select");
+        var method = cache.get(QueryPlanCache.Kind.SELECT_METHOD, "findByName", "Person", () -> "method");
+        var other = cache.get(QueryPlanCache.Kind.SELECT_METHOD, "findByName", "Animal", () -> "other");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(select).isEqualTo("select");
+            soft.assertThat(method).isEqualTo("method");
+            soft.assertThat(other).isEqualTo("other");
+            soft.assertThat(cache.stats().size()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        cache.configure(2, Duration.ZERO);
+        cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM a", null, () -> "a");
+        cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM b", null, () -> "b");
+        cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM a", null, () -> "a2");
+        cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM c", null, () -> "c");
+
+        var a = cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM a", null, () -> "a3");
+        var b = cache.get(QueryPlanCache.Kind.DELETE, "DELETE FROM b", null, () -> "b2");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(a).isEqualTo("a");
+            soft.assertThat(b).isEqualTo("b2");
+            soft.assertThat(cache.stats().size()).isEqualTo(2);
+            soft.assertThat(cache.stats().evictions()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldExpireAfterAccess() throws InterruptedException {
+        cache.configure(10, Duration.ofMillis(1));
+        cache.get(QueryPlanCache.Kind.UPDATE, "UPDATE a SET b = 1", null, () -> "first");
+        Thread.sleep(10);
+        var value = cache.get(QueryPlanCache.Kind.UPDATE, "UPDATE a SET b = 1", null, () -> "second");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value).isEqualTo("second");
+            soft.assertThat(cache.stats().evictions()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldStayBoundedUnderConcurrentLoads() throws InterruptedException {
+        int threads = 8;
+        cache.configure(50, Duration.ZERO);
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            IntStream.range(0, threads).forEach(thread -> executor.submit(() ->
+                    IntStream.range(0, 500).forEach(index -> {
+                        var query = "FROM t" + thread + "_" + index;
+                        cache.get(QueryPlanCache.Kind.SELECT, query, null, () -> query);
+                        cache.get(QueryPlanCache.Kind.SELECT, query, null, () -> "reloaded");
+                    })));
+            executor.shutdown();
+            Assertions.assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.stats().size()).isLessThanOrEqualTo(50);
+            soft.assertThat(cache.stats().hits() + cache.stats().misses()).isEqualTo(threads * 1_000L);
+        });
+    }
+
+    @Test
+    void shouldConfigureFromSettings() {
+        var settings = Settings.of(Map.of(Configurations.QUERY_CACHE_MAX_SIZE.get(), "5"));
+        cache.configure(settings);
+        Assertions.assertThat(cache.stats().maxSize()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSizeIsInvalid() {
+        Assertions.assertThatThrownBy(() -> cache.configure(0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldBeUsedByProviders() {
+        var query = SelectProvider.INSTANCE.apply("FROM users", "users");
+        var same = SelectProvider.INSTANCE.apply("FROM users", "users");
+        SelectMethodProvider.INSTANCE.apply("findByName", "users");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(same).isSameAs(query);
+            soft.assertThat(cache.stats().size()).isEqualTo(2);
+            soft.assertThat(cache.stats().hits()).isEqualTo(1L);
+        });
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The in-memory execution of an {@link UpdateQuery}. It reads the entities selected by the query, closes the
+ * selection, applies the changes and writes them in chunks through {@link DatabaseManager#update(Iterable)}. The
+ * selection is read in full before the first write, so an entity the update moves within the selection is never
+ * visited twice.
+ *
+ * <p>{@link DatabaseManager#updateCount(UpdateQuery, int)} always runs through {@link DatabaseManager#update(UpdateQuery)},
+ * so the update of a driver that overrides it runs in the database. Only when the default implementation is reached,
+ * it counts the entities written instead of keeping them.</p>
+ */
+final class ChunkedUpdate {
+
+    private static final ThreadLocal<Counter> COUNTERS = new ThreadLocal<>();
+
+    private ChunkedUpdate() {
+    }
+
+    /**
+     * Executes the update through {@link DatabaseManager#update(UpdateQuery)} and counts the updated entities.
+     *
+     * @param manager   the manager that updates the entities
+     * @param query     the update query
+     * @param batchSize the number of entities written on each call, when the update runs in memory
+     * @return the number of entities updated
+     * @throws NullPointerException     when either manager or query is null
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    static long count(DatabaseManager manager, UpdateQuery query, int batchSize) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(query, "query is required");
+        checkBatchSize(batchSize);
+        Counter counter = new Counter(manager, batchSize);
+        Counter previous = COUNTERS.get();
+        COUNTERS.set(counter);
+        Iterable<CommunicationEntity> entities;
+        try {
+            entities = manager.update(query);
+        } finally {
+            COUNTERS.set(previous);
+        }
+        if (counter.executed) {
+            return counter.count;
+        }
+        long count = 0;
+        if (entities != null) {
+            for (CommunicationEntity ignored : entities) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The default implementation of {@link DatabaseManager#update(UpdateQuery)}. When it is called from
+     * {@link #count(DatabaseManager, UpdateQuery, int)} for the same manager, it only counts the updated entities
+     * and returns an empty list; otherwise, it returns them.
+     *
+     * @param manager the manager that selects and updates the entities
+     * @param query   the update query
+     * @return the updated entities
+     */
+    static Iterable<CommunicationEntity> update(DatabaseManager manager, UpdateQuery query) {
+        Counter counter = COUNTERS.get();
+        if (counter != null && counter.manager == manager && !counter.executed) {
+            counter.count = execute(manager, query, counter.batchSize, entity -> {
+            });
+            counter.executed = true;
+            return List.of();
+        }
+        List<CommunicationEntity> entities = new ArrayList<>();
+        execute(manager, query, DatabaseManager.DEFAULT_UPDATE_BATCH_SIZE, entities::add);
+        return entities;
+    }
+
+    /**
+     * Executes the update in memory.
+     *
+     * @param manager   the manager that selects and updates the entities
+     * @param query     the update query
+     * @param batchSize the number of entities written on each call
+     * @param updated   receives each entity returned by the manager as updated
+     * @return the number of entities updated
+     * @throws NullPointerException     when either manager, query or updated is null
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    static long execute(DatabaseManager manager, UpdateQuery query, int batchSize,
+                        Consumer<CommunicationEntity> updated) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(updated, "updated is required");
+        checkBatchSize(batchSize);
+        List<Element> set = query.set();
+        List<CommunicationEntity> selected;
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            selected = entities.toList();
+        }
+        long count = 0;
+        for (int start = 0; start < selected.size(); start += batchSize) {
+            List<CommunicationEntity> chunk = new ArrayList<>(selected.subList(start,
+                    Math.min(start + batchSize, selected.size())));
+            chunk.forEach(entity -> entity.addAll(set));
+            count += flush(manager, chunk, updated);
+        }
+        return count;
+    }
+
+    static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+    }
+
+    private static long flush(DatabaseManager manager, List<CommunicationEntity> chunk,
+                              Consumer<CommunicationEntity> updated) {
+        Iterable<CommunicationEntity> entities = manager.update(chunk);
+        if (entities == null) {
+            return 0;
+        }
+        long count = 0;
+        for (CommunicationEntity entity : entities) {
+            updated.accept(entity);
+            count++;
+        }
+        return count;
+    }
+
+    private static final class Counter {
+
+        private final DatabaseManager manager;
+
+        private final int batchSize;
+
+        private long count;
+
+        private boolean executed;
+
+        private Counter(DatabaseManager manager, int batchSize) {
+            this.manager = manager;
+            this.batchSize = batchSize;
+        }
+    }
+}
@@ -16,9 +16,12 @@ import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,18 +42,45 @@ import static java.util.stream.Collectors.toList;
  * <p>{@code CommunicationEntity} provides methods to manipulate and retrieve data in a semistructured manner,
  * allowing for flexible handling of data that does not strictly adhere to a predefined schema.</p>
  *
+ * <p>An entity created from an {@link EntityShape} keeps its values in a flat array that follows the columns of the
+ * shape, which is shared by all the entities of that shape. It creates the {@link Element} of a column the first time
+ * it is read and keeps it until the column changes. It behaves as any other entity; adding a column out of the shape
+ * moves its elements to a map.</p>
+ *
  * @see Element
  * @see CommunicationEntity#elements()
  * @see CommunicationEntity#name()
  */
 public class CommunicationEntity {
 
-    private final Map<String, Element> elements = new HashMap<>();
+    private static final Object ABSENT = new Object();
+
+    private Map<String, Element> elements;
+
+    private EntityShape shape;
+
+    private Object[] values;
+
+    private Element[] cache;
+
+    private List<Element> view;
 
     private final String name;
 
     CommunicationEntity(String name) {
         this.name = name;
+        this.elements = new HashMap<>();
+    }
+
+    CommunicationEntity(EntityShape shape) {
+        this(shape, new Object[shape.size()]);
+        Arrays.fill(values, ABSENT);
+    }
+
+    CommunicationEntity(EntityShape shape, Object[] values) {
+        this.name = shape.name();
+        this.shape = shape;
+        this.values = values;
     }
 
 
@@ -73,7 +103,9 @@ public class CommunicationEntity {
      */
     public void add(Element element) {
         requireNonNull(element, "Column is required");
-        this.elements.put(element.name(), element);
+        if (!set(element.name(), element.value())) {
+            this.elements.put(element.name(), element);
+        }
     }
 
     /**
@@ -85,7 +117,9 @@ public class CommunicationEntity {
      */
     public void add(String name, Object value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.of(value)));
+        if (!set(name, value instanceof Value ? Value.of(value) : value)) {
+            this.elements.put(name, Element.of(name, Value.of(value)));
+        }
     }
 
     /**
@@ -97,7 +131,9 @@ public class CommunicationEntity {
      */
     public void add(String name, Value value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, value));
+        if (!set(name, value)) {
+            this.elements.put(name, Element.of(name, value));
+        }
     }
 
     /**
@@ -108,7 +144,9 @@ public class CommunicationEntity {
      */
     public void addNull(String name){
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.ofNull()));
+        if (!set(name, null)) {
+            this.elements.put(name, Element.of(name, Value.ofNull()));
+        }
     }
 
     /**
@@ -119,9 +157,8 @@ public class CommunicationEntity {
      */
     public Map<String, Object> toMap() {
         Map<String, Object> map = new HashMap<>();
-        for (Map.Entry<String, Element> entry : elements.entrySet()) {
-            Element element = entry.getValue();
-            map.put(entry.getKey(), convert(element.get()));
+        for (Element element : view()) {
+            map.put(element.name(), convert(element.get()));
         }
         return Collections.unmodifiableMap(map);
     }
@@ -133,6 +170,9 @@ public class CommunicationEntity {
      * @return an unmodifiable list containing all elements
      */
     public List<Element> elements() {
+        if (shape != null) {
+            return shapedView();
+        }
         return elements.values()
                 .stream()
                 .collect(collectingAndThen(toList(), Collections::unmodifiableList));
@@ -156,6 +196,15 @@ public class CommunicationEntity {
      */
     public boolean remove(String name) {
         requireNonNull(name, "name is required");
+        if (shape != null) {
+            int index = shape.indexOf(name);
+            if (index < 0 || values[index] == ABSENT) {
+                return false;
+            }
+            values[index] = ABSENT;
+            invalidate(index);
+            return true;
+        }
         return elements.remove(name) != null;
     }
 
@@ -168,8 +217,7 @@ public class CommunicationEntity {
      */
     public Optional<Element> find(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        Element element = elements.get(columnName);
-        return ofNullable(element);
+        return ofNullable(element(columnName));
     }
 
     /**
@@ -185,7 +233,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, Class<T> type) {
         requireNonNull(elementName, "elementName is required");
         requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
+        return ofNullable(element(elementName))
                 .map(c -> c.get(type));
     }
 
@@ -202,7 +250,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
         requireNonNull(elementName, "elementName is required");
         requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
+        return ofNullable(element(elementName))
                 .map(v -> v.get(type));
     }
 
@@ -212,6 +260,15 @@ public class CommunicationEntity {
      * @return the number of elements in this communication entity
      */
     public int size() {
+        if (shape != null) {
+            int size = 0;
+            for (Object value : values) {
+                if (value != ABSENT) {
+                    size++;
+                }
+            }
+            return size;
+        }
         return elements.size();
     }
 
@@ -221,7 +278,7 @@ public class CommunicationEntity {
      * @return {@code true} if this communication entity contains no elements, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return elements.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -230,6 +287,11 @@ public class CommunicationEntity {
      * @return a new instance of CommunicationEntity with the same elements and name
      */
     public CommunicationEntity copy() {
+        if (shape != null) {
+            CommunicationEntity entity = new CommunicationEntity(shape, values.clone());
+            entity.cache = cache == null ? null : cache.clone();
+            return entity;
+        }
         CommunicationEntity entity = new CommunicationEntity(this.name);
         entity.elements.putAll(new HashMap<>(this.elements));
         return entity;
@@ -241,7 +303,14 @@ public class CommunicationEntity {
      * @return an unmodifiable set containing the names of all elements
      */
     public Set<String> elementNames() {
-        return unmodifiableSet(elements.keySet());
+        if (shape == null) {
+            return unmodifiableSet(elements.keySet());
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Element element : shapedView()) {
+            names.add(element.name());
+        }
+        return unmodifiableSet(names);
     }
 
     /**
@@ -250,8 +319,7 @@ public class CommunicationEntity {
      * @return an unmodifiable collection containing the values of all elements
      */
     public Collection<Value> values() {
-        return elements
-                .values()
+        return view()
                 .stream()
                 .map(Element::value)
                 .collect(collectingAndThen(toList(), Collections::unmodifiableList));
@@ -266,6 +334,10 @@ public class CommunicationEntity {
      */
     public boolean contains(String name) {
         requireNonNull(name, "name is required");
+        if (shape != null) {
+            int index = shape.indexOf(name);
+            return index >= 0 && values[index] != ABSENT;
+        }
         return elements.containsKey(name);
     }
 
@@ -273,6 +345,12 @@ public class CommunicationEntity {
      * Removes all elements from this communication entity.
      */
     public void clear() {
+        if (shape != null) {
+            Arrays.fill(values, ABSENT);
+            this.cache = null;
+            this.view = null;
+            return;
+        }
         elements.clear();
     }
 
@@ -285,13 +363,24 @@ public class CommunicationEntity {
             return false;
         }
         CommunicationEntity that = (CommunicationEntity) o;
-        return Objects.equals(elements, that.elements) &&
-                Objects.equals(name, that.name);
+        if (!Objects.equals(name, that.name) || size() != that.size()) {
+            return false;
+        }
+        for (Element element : view()) {
+            if (!element.equals(that.element(element.name()))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(elements, name);
+        int elementsHash = 0;
+        for (Element element : view()) {
+            elementsHash += element.name().hashCode() ^ element.hashCode();
+        }
+        return Objects.hash(elementsHash, name);
     }
 
     @Override
@@ -327,6 +416,75 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
+    private Element element(String name) {
+        if (shape != null) {
+            int index = shape.indexOf(name);
+            if (index < 0 || values[index] == ABSENT) {
+                return null;
+            }
+            return element(index);
+        }
+        return elements.get(name);
+    }
+
+    private Element element(int index) {
+        if (cache == null) {
+            cache = new Element[values.length];
+        }
+        Element element = cache[index];
+        if (element == null) {
+            element = Element.of(shape.columns().get(index), values[index]);
+            cache[index] = element;
+        }
+        return element;
+    }
+
+    private Collection<Element> view() {
+        return shape == null ? elements.values() : shapedView();
+    }
+
+    private List<Element> shapedView() {
+        if (view == null) {
+            List<Element> list = new ArrayList<>(values.length);
+            for (int index = 0; index < values.length; index++) {
+                if (values[index] != ABSENT) {
+                    list.add(element(index));
+                }
+            }
+            view = Collections.unmodifiableList(list);
+        }
+        return view;
+    }
+
+    private void invalidate(int index) {
+        if (cache != null) {
+            cache[index] = null;
+        }
+        view = null;
+    }
+
+    private boolean set(String name, Object value) {
+        if (shape == null) {
+            return false;
+        }
+        int index = shape.indexOf(name);
+        if (index < 0) {
+            Map<String, Element> map = new LinkedHashMap<>();
+            for (Element element : shapedView()) {
+                map.put(element.name(), element);
+            }
+            this.elements = map;
+            this.shape = null;
+            this.values = null;
+            this.cache = null;
+            this.view = null;
+            return false;
+        }
+        values[index] = value;
+        invalidate(index);
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     private Object convert(Object value) {
         if (value instanceof Element) {
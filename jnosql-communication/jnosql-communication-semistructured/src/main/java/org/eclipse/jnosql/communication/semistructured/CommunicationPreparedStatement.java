@@ -116,7 +116,8 @@ public final class CommunicationPreparedStatement {
     }
 
     /**
-     * Returns the result as a stream of entities.
+     * Returns the result as a stream of entities. For an UPDATE, use {@link #count()} instead when only the number of
+     * updated entities matters.
      *
      * @return the stream of entities
      * @throws QueryException if there are parameters left to bind
@@ -160,11 +161,12 @@ public final class CommunicationPreparedStatement {
     }
 
     /**
-     * Returns the number of elements in the result.
+     * Returns the number of elements in the result. For an UPDATE, it executes the query through
+     * {@link DatabaseManager#updateCount(UpdateQuery)} and returns the number of updated entities.
      *
      * @return the number of elements
      * @throws QueryException if there are parameters left to bind
-     * @throws IllegalArgumentException if the operation is not a count operation
+     * @throws IllegalArgumentException if the operation is neither a count nor an update operation
      */
     public long count(){
         if (!paramsLeft.isEmpty()) {
@@ -173,8 +175,20 @@ public final class CommunicationPreparedStatement {
         if (PreparedStatementType.COUNT.equals(type)) {
             return manager.count(selectQuery);
         }
-        throw new IllegalArgumentException("The count operation is only allowed for COUNT queries");
+        if (PreparedStatementType.UPDATE.equals(type)) {
+            return manager.updateCount(updateQuery);
+        }
+        throw new IllegalArgumentException("The count operation is only allowed for COUNT and UPDATE queries");
+
+    }
 
+    /**
+     * Checks if the operation is an update operation, whose {@link #count()} returns the number of updated entities.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    public boolean isUpdate() {
+        return PreparedStatementType.UPDATE.equals(type);
     }
 
 
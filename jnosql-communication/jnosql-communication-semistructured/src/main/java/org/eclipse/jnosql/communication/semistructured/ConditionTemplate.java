@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.ParamValue;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link CriteriaCondition} compiled with its parameters as indexed slots. Each distinct parameter name is a slot,
+ * in the order the parameters were declared. The branches without parameters are shared by every bound condition,
+ * and the branches with parameters are rebuilt with new {@link ParamValue} instances, so binding never changes the
+ * template and it is safe to use from several threads.
+ */
+final class ConditionTemplate {
+
+    private static final ConditionTemplate EMPTY = new ConditionTemplate(List.of(), values -> null);
+
+    private final List<String> parameters;
+
+    private final Function<Object[], CriteriaCondition> binder;
+
+    private ConditionTemplate(List<String> parameters, Function<Object[], CriteriaCondition> binder) {
+        this.parameters = parameters;
+        this.binder = binder;
+    }
+
+    /**
+     * @return the parameter names, the index of each name is its slot
+     */
+    List<String> parameters() {
+        return parameters;
+    }
+
+    /**
+     * Creates the condition with the values of the slots.
+     *
+     * @param values the values in the order of {@link #parameters()}
+     * @return the condition, or null when the template has no condition
+     * @throws NullPointerException when values is null
+     * @throws QueryException       when the number of values does not match the number of parameters
+     */
+    CriteriaCondition bind(Object[] values) {
+        Objects.requireNonNull(values, "values is required");
+        if (values.length != parameters.size()) {
+            throw new QueryException(String.format("The query has %d parameters %s, but %d values were provided",
+                    parameters.size(), parameters, values.length));
+        }
+        return binder.apply(values);
+    }
+
+    static ConditionTemplate of(CriteriaCondition condition, Params params) {
+        Objects.requireNonNull(params, "params is required");
+        if (condition == null) {
+            return EMPTY;
+        }
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        for (String name : params.getParametersNames()) {
+            slots.putIfAbsent(name, slots.size());
+        }
+        Function<Object[], Object> binder = compile(condition, slots);
+        List<String> parameters = List.copyOf(slots.keySet());
+        if (binder == null) {
+            return new ConditionTemplate(parameters, values -> condition);
+        }
+        return new ConditionTemplate(parameters, values -> (CriteriaCondition) binder.apply(values));
+    }
+
+    /**
+     * Compiles the condition, it returns null when the condition has no parameters.
+     */
+    private static Function<Object[], Object> compile(CriteriaCondition condition, Map<String, Integer> slots) {
+        Element element = condition.element();
+        Function<Object[], Object> value = compile(element.value(), slots);
+        if (value == null) {
+            return null;
+        }
+        String name = element.name();
+        Condition type = condition.condition();
+        return values -> CriteriaCondition.of(Element.of(name, value.apply(values)), type);
+    }
+
+    private static Function<Object[], Object> compile(Object value, Map<String, Integer> slots) {
+        if (value instanceof ParamValue param) {
+            int slot = slots.get(param.getName());
+            return values -> param.bind(values[slot]);
+        }
+        Object item = value instanceof Value wrapper ? wrapper.get() : value;
+        if (item instanceof CriteriaCondition condition) {
+            return compile(condition, slots);
+        } else if (item instanceof List<?> items) {
+            return compile(items, slots);
+        }
+        return null;
+    }
+
+    private static Function<Object[], Object> compile(List<?> items, Map<String, Integer> slots) {
+        @SuppressWarnings("unchecked")
+        Function<Object[], Object>[] binders = new Function[items.size()];
+        boolean parameter = false;
+        for (int index = 0; index < binders.length; index++) {
+            Object item = items.get(index);
+            Function<Object[], Object> binder = compile(item, slots);
+            parameter |= binder != null;
+            binders[index] = binder == null ? values -> item : binder;
+        }
+        if (!parameter) {
+            return null;
+        }
+        return values -> {
+            Object[] result = new Object[binders.length];
+            for (int index = 0; index < binders.length; index++) {
+                result[index] = binders[index].apply(values);
+            }
+            return Arrays.asList(result);
+        };
+    }
+}
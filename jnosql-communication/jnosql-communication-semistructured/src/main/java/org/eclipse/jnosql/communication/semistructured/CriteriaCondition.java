@@ -32,6 +32,8 @@ import java.util.stream.StreamSupport;
  */
 public final class CriteriaCondition {
 
+    private static final TypeReference<List<CriteriaCondition>> CONDITIONS = new TypeReference<>() {};
+
     private final Element element;
     private final Condition condition;
     private final boolean readOnly;
@@ -119,8 +121,7 @@ public final class CriteriaCondition {
     }
 
     private Element getConditions(CriteriaCondition criteriaCondition, Condition condition) {
-        var conditions = new ArrayList<>(element.get(new TypeReference<List<CriteriaCondition>>() {
-        }));
+        var conditions = new ArrayList<>(element.get(CONDITIONS));
         conditions.add(criteriaCondition);
         return Element.of(condition.getNameField(), conditions);
     }
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The keyset plan of a cursor query. It splits the sort properties into paths once and builds the cursor
+ * predicate as a flat disjunction, the row-value comparison {@code (a, b, c) > (x, y, z)} written as
+ * {@code a > x OR (a = x AND b > y) OR (a = x AND b = y AND c > z)}, creating each condition once instead of
+ * copying the growing condition on each sort. The comparison of each sort follows its direction, so a descending
+ * sort reads the lower keys after the cursor. The pages share the name, columns, sorts and condition of the query.
+ */
+final class CursorPlan {
+
+    private static final TypeReference<List<Element>> ELEMENTS = new TypeReference<>() {};
+
+    private final SelectQuery query;
+
+    private final CriteriaCondition condition;
+
+    private final String[] properties;
+
+    private final String[][] paths;
+
+    private final boolean[] ascending;
+
+    private CursorPlan(SelectQuery query) {
+        this.query = query;
+        this.condition = query.condition().orElse(null);
+        List<Sort<?>> sorts = query.sorts();
+        this.properties = new String[sorts.size()];
+        this.paths = new String[sorts.size()][];
+        this.ascending = new boolean[sorts.size()];
+        for (int index = 0; index < properties.length; index++) {
+            Sort<?> sort = sorts.get(index);
+            properties[index] = sort.property();
+            paths[index] = sort.property().split("\\.");
+            ascending[index] = sort.isAscending();
+        }
+    }
+
+    /**
+     * Creates the query of a page.
+     *
+     * @param limit  the page size
+     * @param cursor the cursor condition, or null for the first page
+     * @return the query of the page
+     */
+    SelectQuery page(int limit, CriteriaCondition cursor) {
+        CriteriaCondition where;
+        if (cursor == null) {
+            where = condition;
+        } else {
+            where = condition == null ? cursor : CriteriaCondition.and(condition, cursor);
+        }
+        return new DefaultSelectQuery(limit, 0, query.name(), query.columns(), query.sorts(), where, false);
+    }
+
+    /**
+     * Creates the condition of the entities after the cursor, following the sort directions.
+     */
+    CriteriaCondition after(PageRequest.Cursor cursor) {
+        return condition(cursor, true);
+    }
+
+    /**
+     * Creates the condition of the entities before the cursor, following the sort directions.
+     */
+    CriteriaCondition before(PageRequest.Cursor cursor) {
+        return condition(cursor, false);
+    }
+
+    /**
+     * Reads the cursor of the entity, the values of its sort properties.
+     *
+     * @throws CommunicationException when the entity does not have a sort property
+     */
+    PageRequest.Cursor cursor(CommunicationEntity entity) {
+        Object[] keys = new Object[paths.length];
+        for (int index = 0; index < paths.length; index++) {
+            keys[index] = value(paths[index], entity);
+        }
+        return PageRequest.Cursor.forKey(keys);
+    }
+
+    private CriteriaCondition condition(PageRequest.Cursor cursor, boolean after) {
+        if (properties.length != cursor.size()) {
+            throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
+                    + cursor.size() + " Sort: " + properties.length);
+        }
+        int size = properties.length;
+        CriteriaCondition[] equals = new CriteriaCondition[size];
+        CriteriaCondition[] terms = new CriteriaCondition[size];
+        for (int index = 0; index < size; index++) {
+            String property = properties[index];
+            Object key = cursor.get(index);
+            CriteriaCondition range = ascending[index] == after ? CriteriaCondition.gt(property, key)
+                    : CriteriaCondition.lt(property, key);
+            if (index == 0) {
+                terms[index] = range;
+            } else {
+                CriteriaCondition[] conditions = Arrays.copyOf(equals, index + 1);
+                conditions[index] = range;
+                terms[index] = CriteriaCondition.and(conditions);
+            }
+            equals[index] = CriteriaCondition.eq(property, key);
+        }
+        return size == 1 ? terms[0] : CriteriaCondition.or(terms);
+    }
+
+    private static Object value(String[] path, CommunicationEntity entity) {
+        Element element = entity.find(path[0]).orElseThrow(() ->
+                new CommunicationException("The sort name does not exist in the entity: " + path[0]));
+        for (int index = 1; index < path.length; index++) {
+            String name = path[index];
+            List<Element> elements = element.get(ELEMENTS);
+            element = elements.stream().filter(e -> e.name().equals(name)).findFirst()
+                    .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: "
+                            + name));
+        }
+        return element.get();
+    }
+
+    static CursorPlan of(SelectQuery query) {
+        return new CursorPlan(query);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+/**
+ * The operations a driver executes in the database instead of the default implementations of
+ * {@link DatabaseManager}, which run them on the client side. A driver declares them at
+ * {@link DatabaseManager#capabilities()} and {@link DatabaseManagerFactory#capabilities()}.
+ */
+public enum DatabaseCapability {
+
+    /**
+     * {@link DatabaseManager#count(SelectQuery)} counts in the database, instead of streaming the matching entities.
+     */
+    COUNT,
+
+    /**
+     * {@link DatabaseManager#select(SelectQuery)} applies the limit of the query in the database, so it reads no
+     * more entities than the limit.
+     */
+    LIMIT
+}
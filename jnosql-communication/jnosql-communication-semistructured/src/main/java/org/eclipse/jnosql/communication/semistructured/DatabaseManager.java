@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -29,6 +30,12 @@ import java.util.stream.Stream;
  */
 public interface DatabaseManager extends AutoCloseable {
 
+    /**
+     * The number of entities the default in-memory execution of an {@link UpdateQuery} writes on each call of
+     * {@link #update(Iterable)}.
+     */
+    int DEFAULT_UPDATE_BATCH_SIZE = 1000;
+
     /**
      * Returns the name of the managed database.
      *
@@ -155,15 +162,17 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Modifies an existing entity in the database based on the specified query.
      *
-     * <p>This default implementation of the update operation is executed in memory. It fetches the
-     * entities using a selection query, applies updates in memory, and then writes each updated entity
-     * back to the database. While this method provides a straightforward and universal approach, it may
-     * impact performance due to multiple database read and write operations.</p>
+     * <p>This default implementation of the update operation is executed in memory. It reads the entities of
+     * the selection query, applies the updates in memory, and writes them back in chunks of
+     * {@link #DEFAULT_UPDATE_BATCH_SIZE} entities through {@link #update(Iterable)}. While this method provides
+     * a straightforward and universal approach, it may impact performance due to the database read and write
+     * operations, and it keeps every updated entity to return them; prefer {@link #updateCount(UpdateQuery)}
+     * when only the number of updated entities matters.</p>
      *
      * <p>To enhance performance, especially in production environments, it is recommended that this
      * method is overridden by the database driver to perform the update operation directly in the database.
      * Implementing direct database updates minimizes the overhead associated with in-memory operations
-     * and network latency.</p>
+     * and network latency. {@link #updateCount(UpdateQuery)} runs through this method as well.</p>
      *
      * <p>For databases using an append model to write data or following the BASE model, this method behaves
      * the same as the {@link #insert} method when not overridden.</p>
@@ -176,8 +185,61 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Iterable<CommunicationEntity> update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var entities = this.select(query.toSelectQuery());
-        return entities.peek(e -> e.addAll(query.set())).map(this::update).toList();
+        return ChunkedUpdate.update(this, query);
+    }
+
+    /**
+     * Modifies the entities matching the specified query and returns how many were updated, writing them in chunks
+     * of {@link #DEFAULT_UPDATE_BATCH_SIZE} entities.
+     *
+     * @param query the query used to select entities to update
+     * @return the number of updated entities
+     * @throws NullPointerException if the query is null
+     * @see #updateCount(UpdateQuery, int)
+     */
+    default long updateCount(UpdateQuery query) {
+        return updateCount(query, DEFAULT_UPDATE_BATCH_SIZE);
+    }
+
+    /**
+     * Modifies the entities matching the specified query and returns how many were updated.
+     *
+     * <p>It executes {@link #update(UpdateQuery)} and counts its result, so a driver that overrides it updates in the
+     * database. When the driver keeps the default implementation, the update runs in memory and writes the entities
+     * through {@link #update(Iterable)} in chunks of the given size, counting them instead of keeping them.</p>
+     *
+     * @param query     the query used to select entities to update
+     * @param batchSize the number of entities written on each call of {@link #update(Iterable)}
+     * @return the number of updated entities
+     * @throws NullPointerException     if the query is null
+     * @throws IllegalArgumentException if the batch size is not greater than zero
+     */
+    default long updateCount(UpdateQuery query, int batchSize) {
+        Objects.requireNonNull(query, "query is required");
+        return ChunkedUpdate.count(this, query, batchSize);
+    }
+
+    /**
+     * Returns the operations this manager executes in the database instead of the default implementations, which
+     * run on the client side. The drivers that override {@link #count(SelectQuery)}, or that apply the limit of a
+     * select in the database, should declare them.
+     *
+     * @return the capabilities, none by default
+     */
+    default Set<DatabaseCapability> capabilities() {
+        return Set.of();
+    }
+
+    /**
+     * Checks whether this manager executes the operation in the database.
+     *
+     * @param capability the capability
+     * @return true when {@link #capabilities()} contains it
+     * @throws NullPointerException when the capability is null
+     */
+    default boolean supports(DatabaseCapability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return capabilities().contains(capability);
     }
 
     /**
@@ -202,25 +264,45 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Returns the number of entities in the database that match the specified query.
      *
+     * <p>This default implementation streams the matching entities and counts them on the client side. The drivers
+     * that count in the database should override it and declare {@link DatabaseCapability#COUNT}. The fallback is
+     * reported as described at {@link org.eclipse.jnosql.communication.Configurations#DIAGNOSTICS}.</p>
+     *
      * @param query the query
      * @return the number of entities returned by the query
      * @throws NullPointerException when the query is null
      */
     default long count(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultSelectQuery.countBy(query)).count();
+        Diagnostics.clientSide(this, "count", query);
+        try (Stream<CommunicationEntity> entities = this.select(DefaultSelectQuery.countBy(query))) {
+            return entities.count();
+        }
     }
 
     /**
      * Checks if an entity matching the specified query exists in the database.
      *
+     * <p>This default implementation selects at most one entity, with a limit of one and without sorts. When the
+     * manager counts in the database, see {@link DatabaseCapability#COUNT}, but does not apply the limit, see
+     * {@link DatabaseCapability#LIMIT}, it checks the count instead. When the manager declares neither, the fallback
+     * is reported as described at {@link org.eclipse.jnosql.communication.Configurations#DIAGNOSTICS}.</p>
+     *
      * @param query the query
      * @return true if an entity with the given query exists, false otherwise
      * @throws NullPointerException when the query is null
      */
     default boolean exists(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultSelectQuery.existsBy(query)).findAny().isPresent();
+        if (supports(DatabaseCapability.COUNT) && !supports(DatabaseCapability.LIMIT)) {
+            return this.count(query) > 0;
+        }
+        if (!supports(DatabaseCapability.LIMIT)) {
+            Diagnostics.clientSide(this, "exists", query);
+        }
+        try (Stream<CommunicationEntity> entities = this.select(DefaultSelectQuery.existsBy(query))) {
+            return entities.findAny().isPresent();
+        }
     }
 
     /**
@@ -10,6 +10,7 @@
  */
 package org.eclipse.jnosql.communication.semistructured;
 
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -30,6 +31,15 @@ import java.util.function.Function;
  */
 public interface DatabaseManagerFactory extends Function<String, DatabaseManager>, AutoCloseable {
 
+    /**
+     * Returns the operations the managers created by this factory execute in the database, so the capabilities
+     * can be checked before creating a manager. It should match {@link DatabaseManager#capabilities()}.
+     *
+     * @return the capabilities, none by default
+     */
+    default Set<DatabaseCapability> capabilities() {
+        return Set.of();
+    }
 
     /**
      * Closes any resources held by the factory.
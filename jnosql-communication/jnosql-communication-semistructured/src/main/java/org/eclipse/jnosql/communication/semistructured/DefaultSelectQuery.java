@@ -29,7 +29,6 @@ public record DefaultSelectQuery(long limit, long skip, String name,
                           List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition, boolean count)
         implements SelectQuery {
 
-
     @Override
     public Optional<CriteriaCondition> condition() {
         return ofNullable(criteriaCondition).map(CriteriaCondition::readOnly);
@@ -72,6 +71,10 @@ public record DefaultSelectQuery(long limit, long skip, String name,
     }
 
 
+    /**
+     * Returns the selection the default {@link DatabaseManager#count(SelectQuery)} streams to count the entities on
+     * the client side.
+     */
     static SelectQuery countBy(SelectQuery query) {
         return new DefaultSelectQuery(0, 0, query.name(), query.columns(),
                 Collections.emptyList(), query.condition().orElse(null), true);
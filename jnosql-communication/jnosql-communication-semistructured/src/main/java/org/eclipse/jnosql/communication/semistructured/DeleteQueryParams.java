@@ -41,5 +41,12 @@ public record DeleteQueryParams(DeleteQuery query, Params params) {
         return params;
     }
 
-
+    /**
+     * Compiles the query and its params into a template that binds the parameter values to new queries.
+     *
+     * @return a new {@link DeleteQueryTemplate} instance
+     */
+    public DeleteQueryTemplate template() {
+        return DeleteQueryTemplate.of(this);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.QueryException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link DeleteQuery} with parameters compiled once, to be executed many times. The parameters are indexed slots,
+ * see {@link #parameters()}, and each {@link #bind(Object...)} creates a new query with the values, without changing
+ * the template; thus, the same template can be shared by several threads.
+ *
+ * @see DeleteQueryParams#template()
+ */
+public final class DeleteQueryTemplate {
+
+    private final DeleteQuery query;
+
+    private final ConditionTemplate condition;
+
+    DeleteQueryTemplate(DeleteQuery query, ConditionTemplate condition) {
+        this.query = query;
+        this.condition = condition;
+    }
+
+    /**
+     * Returns the parameter names of the query; the index of each name is the index of its value at
+     * {@link #bind(Object...)}. A name that appears more than once in the query has a single slot.
+     *
+     * @return the parameter names
+     */
+    public List<String> parameters() {
+        return condition.parameters();
+    }
+
+    /**
+     * Creates the query with the values of the parameters.
+     *
+     * @param values the values in the order of {@link #parameters()}
+     * @return a new {@link DeleteQuery} instance
+     * @throws NullPointerException when values is null
+     * @throws QueryException       when the number of values does not match the number of parameters
+     */
+    public DeleteQuery bind(Object... values) {
+        return new DefaultDeleteQuery(query.name(), condition.bind(values), query.columns());
+    }
+
+    /**
+     * Compiles the query and the params created by the {@link DeleteQueryParser}.
+     *
+     * @param queryParams the query and its params
+     * @return a new {@link DeleteQueryTemplate} instance
+     * @throws NullPointerException when queryParams is null
+     */
+    public static DeleteQueryTemplate of(DeleteQueryParams queryParams) {
+        Objects.requireNonNull(queryParams, "queryParams is required");
+        DeleteQuery query = queryParams.query();
+        return new DeleteQueryTemplate(query,
+                ConditionTemplate.of(query.condition().orElse(null), queryParams.params()));
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteQueryTemplate{" +
+                "query=" + query +
+                ", parameters=" + parameters() +
+                '}';
+    }
+}
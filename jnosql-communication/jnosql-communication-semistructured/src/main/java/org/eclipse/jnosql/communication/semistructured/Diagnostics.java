@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Configurations;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Reports the operations that run on the client side because the driver keeps the default implementation of
+ * {@link DatabaseManager}. Each one is logged at FINE; when the system property of
+ * {@link Configurations#DIAGNOSTICS} is true, it is also warned once per operation and manager type.
+ */
+final class Diagnostics {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
+
+    private static final ClassValue<Set<String>> REPORTED = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return ConcurrentHashMap.newKeySet();
+        }
+    };
+
+    private Diagnostics() {
+    }
+
+    static void clientSide(DatabaseManager manager, String operation, SelectQuery query) {
+        LOGGER.fine(() -> "The " + operation + " of the entity " + query.name() + " runs on the client side");
+        if (Boolean.getBoolean(Configurations.DIAGNOSTICS.get())
+                && REPORTED.get(manager.getClass()).add(operation)) {
+            LOGGER.warning(() -> "The " + operation + " of the entity " + query.name() + " runs on the client side,"
+                    + " streaming the matching entities, because the database manager " + manager.name()
+                    + " does not override it");
+        }
+    }
+}
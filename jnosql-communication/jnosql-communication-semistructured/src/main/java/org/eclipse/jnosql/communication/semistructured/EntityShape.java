@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The shape of a {@link CommunicationEntity}: the entity name and its column names, in order. Entities created from
+ * a shape share it, keep their values in a flat array indexed by the column position, and create the
+ * {@link Element} of a column only when it is read. It saves a hash table, the column names and the element
+ * wrappers per row when reading many rows with the same columns.
+ *
+ * <pre>{@code
+ * EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+ * CommunicationEntity entity = shape.entity(10L, "Ada", 30);
+ * }</pre>
+ *
+ * <p>The shapes are interned by name and columns, so the same shape instance is returned for the same arguments.
+ * An entity created from a shape supports the whole {@link CommunicationEntity} API; adding a column that is not
+ * part of the shape turns that entity into the map-backed representation.</p>
+ */
+public final class EntityShape {
+
+    static final int MAX_SHAPES = 1_000;
+
+    private static final Map<ShapeKey, EntityShape> SHAPES = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    private final List<String> columns;
+
+    private final Map<String, Integer> indexes;
+
+    private EntityShape(String name, List<String> columns) {
+        this.name = name;
+        this.columns = columns;
+        this.indexes = new HashMap<>(columns.size() * 2);
+        for (int index = 0; index < columns.size(); index++) {
+            if (indexes.putIfAbsent(columns.get(index), index) != null) {
+                throw new IllegalArgumentException("The column " + columns.get(index) + " is duplicated in the shape "
+                        + name);
+            }
+        }
+    }
+
+    /**
+     * Returns the entity name.
+     *
+     * @return the entity name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the column names, in the order of the values.
+     *
+     * @return an unmodifiable list of the column names
+     */
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the position of the column.
+     *
+     * @param column the column name
+     * @return the position of the column, or {@code -1} when the column is not part of the shape
+     * @throws NullPointerException when the column is null
+     */
+    public int indexOf(String column) {
+        requireNonNull(column, "column is required");
+        Integer index = indexes.get(column);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Creates an entity with one value per column, in the order of {@link #columns()}. The values may be raw
+     * objects or {@link org.eclipse.jnosql.communication.Value} instances, and a {@code null} value is kept as a
+     * column with a null value. The array is copied, so a driver may reuse it for the next row.
+     *
+     * @param values the values of the columns
+     * @return a new entity of this shape
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when the number of values is not the number of columns
+     */
+    public CommunicationEntity entity(Object... values) {
+        requireNonNull(values, "values is required");
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("The shape " + name + " has " + columns.size()
+                    + " columns, but it received " + values.length + " values");
+        }
+        return new CommunicationEntity(this, values.clone());
+    }
+
+    /**
+     * Creates an entity of this shape without columns; the columns of the shape are then set with the
+     * {@code add} methods of {@link CommunicationEntity}.
+     *
+     * @return a new entity of this shape without columns
+     */
+    public CommunicationEntity entity() {
+        return new CommunicationEntity(this);
+    }
+
+    /**
+     * Returns the shape of the entity name and column names.
+     *
+     * @param name    the entity name
+     * @param columns the column names, in the order of the values
+     * @return the shape
+     * @throws NullPointerException     when the name, the columns or a column is null
+     * @throws IllegalArgumentException when a column is duplicated
+     */
+    public static EntityShape of(String name, List<String> columns) {
+        requireNonNull(name, "name is required");
+        requireNonNull(columns, "columns is required");
+        ShapeKey key = new ShapeKey(name, List.copyOf(columns));
+        EntityShape shape = SHAPES.get(key);
+        if (shape != null) {
+            return shape;
+        }
+        if (SHAPES.size() >= MAX_SHAPES) {
+            return new EntityShape(key.name(), key.columns());
+        }
+        return SHAPES.computeIfAbsent(key, k -> new EntityShape(k.name(), k.columns()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EntityShape that)) {
+            return false;
+        }
+        return name.equals(that.name) && columns.equals(that.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, columns);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityShape{" +
+                "name='" + name + '\'' +
+                ", columns=" + columns +
+                '}';
+    }
+
+    private record ShapeKey(String name, List<String> columns) {
+    }
+}
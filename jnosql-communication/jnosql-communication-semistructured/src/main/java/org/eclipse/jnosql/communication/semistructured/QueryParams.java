@@ -41,4 +41,13 @@ public record QueryParams(SelectQuery query, Params params) {
     public Params params() {
         return params;
     }
+
+    /**
+     * Compiles the query and its params into a template that binds the parameter values to new queries.
+     *
+     * @return a new {@link SelectQueryTemplate} instance
+     */
+    public SelectQueryTemplate template() {
+        return SelectQueryTemplate.of(this);
+    }
 }
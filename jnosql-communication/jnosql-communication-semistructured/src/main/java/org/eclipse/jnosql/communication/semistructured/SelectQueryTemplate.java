@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.QueryException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link SelectQuery} with parameters compiled once, to be executed many times. The parameters are indexed slots,
+ * see {@link #parameters()}, and each {@link #bind(Object...)} creates a new query with the values, without changing
+ * the template; thus, the same template can be shared by several threads.
+ *
+ * @see QueryParams#template()
+ */
+public final class SelectQueryTemplate {
+
+    private final SelectQuery query;
+
+    private final ConditionTemplate condition;
+
+    SelectQueryTemplate(SelectQuery query, ConditionTemplate condition) {
+        this.query = query;
+        this.condition = condition;
+    }
+
+    /**
+     * Returns the parameter names of the query; the index of each name is the index of its value at
+     * {@link #bind(Object...)}. A name that appears more than once in the query has a single slot.
+     *
+     * @return the parameter names
+     */
+    public List<String> parameters() {
+        return condition.parameters();
+    }
+
+    /**
+     * Creates the query with the values of the parameters.
+     *
+     * @param values the values in the order of {@link #parameters()}
+     * @return a new {@link SelectQuery} instance
+     * @throws NullPointerException when values is null
+     * @throws QueryException       when the number of values does not match the number of parameters
+     */
+    public SelectQuery bind(Object... values) {
+        return new DefaultSelectQuery(query.limit(), query.skip(), query.name(), query.columns(), query.sorts(),
+                condition.bind(values), query.isCount());
+    }
+
+    /**
+     * Compiles the query and the params created by the {@link SelectQueryParser}.
+     *
+     * @param queryParams the query and its params
+     * @return a new {@link SelectQueryTemplate} instance
+     * @throws NullPointerException when queryParams is null
+     */
+    public static SelectQueryTemplate of(QueryParams queryParams) {
+        Objects.requireNonNull(queryParams, "queryParams is required");
+        SelectQuery query = queryParams.query();
+        return new SelectQueryTemplate(query,
+                ConditionTemplate.of(query.condition().orElse(null), queryParams.params()));
+    }
+
+    @Override
+    public String toString() {
+        return "SelectQueryTemplate{" +
+                "query=" + query +
+                ", parameters=" + parameters() +
+                '}';
+    }
+}
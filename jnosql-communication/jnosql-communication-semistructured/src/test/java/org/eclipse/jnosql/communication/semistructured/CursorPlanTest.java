@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.PageRequest;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPlanTest {
+
+    @Test
+    void shouldCreateFlatConditionAfterCursor() {
+        var query = SelectQuery.select().from("person").orderBy("name").asc().orderBy("age").asc()
+                .orderBy("id").asc().build();
+
+        CriteriaCondition condition = CursorPlan.of(query).after(PageRequest.Cursor.forKey("Ada", 20, "id"));
+
+        List<CriteriaCondition> conditions = condition.element().get(new TypeReference<>() {
+        });
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.OR);
+            soft.assertThat(conditions).containsExactly(CriteriaCondition.gt("name", "Ada"),
+                    CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.gt("age", 20)),
+                    CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.eq("age", 20),
+                            CriteriaCondition.gt("id", "id")));
+        });
+    }
+
+    @Test
+    void shouldFollowSortDirection() {
+        var query = SelectQuery.select().from("person").orderBy("name").asc().orderBy("age").desc().build();
+        var plan = CursorPlan.of(query);
+        var cursor = PageRequest.Cursor.forKey("Ada", 20);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(plan.after(cursor)).isEqualTo(CriteriaCondition.or(CriteriaCondition.gt("name", "Ada"),
+                    CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.lt("age", 20))));
+            soft.assertThat(plan.before(cursor)).isEqualTo(CriteriaCondition.or(CriteriaCondition.lt("name", "Ada"),
+                    CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.gt("age", 20))));
+        });
+    }
+
+    @Test
+    void shouldUseSingleConditionWhenThereIsOneSort() {
+        var query = SelectQuery.select().from("person").where("age").gt(10).orderBy("name").asc().build();
+        var plan = CursorPlan.of(query);
+
+        SelectQuery page = plan.page(5, plan.after(PageRequest.Cursor.forKey("Ada")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.limit()).isEqualTo(5L);
+            soft.assertThat(page.sorts()).isEqualTo(query.sorts());
+            soft.assertThat(page.condition()).contains(CriteriaCondition.and(CriteriaCondition.gt("age", 10),
+                    CriteriaCondition.gt("name", "Ada")));
+            soft.assertThat(plan.page(5, null).condition()).isEqualTo(query.condition());
+        });
+    }
+
+    @Test
+    void shouldReadCursorFromNestedProperty() {
+        var query = SelectQuery.select().from("person").orderBy("address.city").asc().orderBy("name").asc().build();
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("address", List.of(Element.of("city", "London")));
+
+        PageRequest.Cursor cursor = CursorPlan.of(query).cursor(entity);
+
+        assertThat(cursor.elements()).containsExactly("London", "Ada");
+    }
+
+    @Test
+    void shouldReturnErrorWhenSortPropertyIsMissing() {
+        var query = SelectQuery.select().from("person").orderBy("address.city").asc().build();
+        var entity = CommunicationEntity.of("person");
+        entity.add("address", List.of(Element.of("street", "Baker")));
+
+        assertThatThrownBy(() -> CursorPlan.of(query).cursor(entity)).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenCursorSizeIsDifferent() {
+        var query = SelectQuery.select().from("person").orderBy("name").asc().build();
+
+        assertThatThrownBy(() -> CursorPlan.of(query).after(PageRequest.Cursor.forKey("Ada", 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.data.page.PageRequest;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,8 +27,15 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -475,6 +483,43 @@ class DatabaseManagerTest {
         Assertions.assertThat(count).isZero();
     }
 
+    @Test
+    void shouldWarnOnceWhenCountRunsOnClientSide() {
+        System.setProperty(Configurations.DIAGNOSTICS.get(), "true");
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (Level.WARNING.equals(record.getLevel())) {
+                    records.add(record);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(DatabaseManager.class.getName());
+        logger.addHandler(handler);
+        try {
+            SelectQuery query = SelectQuery.select().from("person").build();
+            Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                    .thenAnswer(invocation -> stream());
+
+            databaseManager.count(query);
+            databaseManager.count(query);
+
+            Assertions.assertThat(records).hasSize(1);
+        } finally {
+            logger.removeHandler(handler);
+            System.clearProperty(Configurations.DIAGNOSTICS.get());
+        }
+    }
+
     @Test
     void shouldExists(){
         SelectQuery query = SelectQuery.select().from("person").build();
@@ -484,6 +529,41 @@ class DatabaseManagerTest {
         Assertions.assertThat(exists).isTrue();
     }
 
+    @Test
+    void shouldExistsWithLimitOne() {
+        var query = SelectQuery.select().from("person").where("age").gt(10).orderBy("name").asc().build();
+        Mockito.when(databaseManager.select(Mockito.any())).thenReturn(stream());
+
+        databaseManager.exists(query);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().limit()).isEqualTo(1L);
+            soft.assertThat(captor.getValue().sorts()).isEmpty();
+            soft.assertThat(captor.getValue().condition()).isEqualTo(query.condition());
+        });
+    }
+
+    @Test
+    void shouldExistsByCountWhenLimitIsNotSupported() {
+        var query = SelectQuery.select().from("person").build();
+        Mockito.when(databaseManager.capabilities()).thenReturn(Set.of(DatabaseCapability.COUNT));
+        Mockito.doReturn(3L).when(databaseManager).count(query);
+
+        Assertions.assertThat(databaseManager.exists(query)).isTrue();
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any());
+    }
+
+    @Test
+    void shouldNotSupportCapabilitiesByDefault() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(databaseManager.capabilities()).isEmpty();
+            soft.assertThat(databaseManager.supports(DatabaseCapability.COUNT)).isFalse();
+        });
+        assertThrows(NullPointerException.class, () -> databaseManager.supports(null));
+    }
+
     @Test
     void shouldNotExists(){
         var query = SelectQuery.select().from("person").build();
@@ -544,21 +624,85 @@ class DatabaseManagerTest {
         var entity = CommunicationEntity.of("person");
         entity.add("name", "Poliana");
         Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
-        databaseManager.update(updateQuery);
+        var updated = databaseManager.update(updateQuery);
 
-        ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.captor();
         Mockito.verify(databaseManager).update(captor.capture());
 
-        CommunicationEntity communication = captor.getValue();
+        CommunicationEntity communication = captor.getValue().iterator().next();
 
         SoftAssertions.assertSoftly(soft ->{
             soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
             soft.assertThat(communication.find("age").orElseThrow().get()).isEqualTo(10);
             soft.assertThat(communication.name()).isEqualTo("person");
+            soft.assertThat(updated).containsExactly(communication);
+        });
+
+
+    }
+
+    @Test
+    void shouldUpdateInChunks() {
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(Stream.of(CommunicationEntity.of("person"), CommunicationEntity.of("person"),
+                        CommunicationEntity.of("person"), CommunicationEntity.of("person"),
+                        CommunicationEntity.of("person")));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        long count = databaseManager.updateCount(updateQuery, 2);
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.captor();
+        Mockito.verify(databaseManager, Mockito.times(3)).update(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(5L);
+            soft.assertThat(captor.getAllValues()).extracting(chunk -> ((List<?>) chunk).size())
+                    .containsExactly(2, 2, 1);
         });
+    }
 
+    @Test
+    void shouldUseNativeUpdateToCount() {
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.doReturn(List.of(CommunicationEntity.of("person"), CommunicationEntity.of("person")))
+                .when(databaseManager).update(updateQuery);
 
+        long count = databaseManager.updateCount(updateQuery);
+
+        Assertions.assertThat(count).isEqualTo(2L);
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldReadTheSelectionBeforeUpdating() {
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        AtomicBoolean closed = new AtomicBoolean();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(Stream.of(CommunicationEntity.of("person"), CommunicationEntity.of("person"))
+                        .onClose(() -> closed.set(true)));
+        List<Boolean> closedOnWrite = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> {
+                    closedOnWrite.add(closed.get());
+                    return invocation.getArgument(0);
+                });
+
+        long count = databaseManager.updateCount(updateQuery, 1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(2L);
+            soft.assertThat(closedOnWrite).containsExactly(true, true);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpdateBatchSizeIsInvalid() {
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        assertThrows(IllegalArgumentException.class, () -> databaseManager.updateCount(updateQuery, 0));
     }
 
 
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityShapeTest {
+
+    private final EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+
+    @Test
+    void shouldInternShapes() {
+        EntityShape other = EntityShape.of("Person", List.of("_id", "name", "age"));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(other).isSameAs(shape);
+            softly.assertThat(EntityShape.of("Person", List.of("_id", "name"))).isNotSameAs(shape);
+            softly.assertThat(shape.name()).isEqualTo("Person");
+            softly.assertThat(shape.columns()).containsExactly("_id", "name", "age");
+            softly.assertThat(shape.size()).isEqualTo(3);
+            softly.assertThat(shape.indexOf("name")).isEqualTo(1);
+            softly.assertThat(shape.indexOf("unknown")).isEqualTo(-1);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenColumnIsDuplicated() {
+        assertThatThrownBy(() -> EntityShape.of("Person", List.of("name", "name")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesDoNotMatchTheColumns() {
+        assertThatThrownBy(() -> shape.entity(10L, "Ada"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> shape.entity((Object[]) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldCreateEntity() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", null);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.name()).isEqualTo("Person");
+            softly.assertThat(entity.size()).isEqualTo(3);
+            softly.assertThat(entity.find("name", String.class)).contains("Ada");
+            softly.assertThat(entity.find("_id")).contains(Element.of("_id", 10L));
+            softly.assertThat(entity.find("age")).contains(Element.of("age", Value.ofNull()));
+            softly.assertThat(entity.find("unknown")).isEmpty();
+            softly.assertThat(entity.elements()).containsExactly(Element.of("_id", 10L),
+                    Element.of("name", "Ada"), Element.of("age", null));
+            softly.assertThat(entity.elementNames()).containsExactly("_id", "name", "age");
+            softly.assertThat(entity.contains("age")).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCopyTheValues() {
+        Object[] values = {10L, "Ada", 30};
+        CommunicationEntity entity = shape.entity(values);
+        values[1] = "Poliana";
+        assertThat(entity.find("name", String.class)).contains("Ada");
+    }
+
+    @Test
+    void shouldBeEqualToTheMapBackedEntity() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 30);
+        CommunicationEntity map = CommunicationEntity.of("Person",
+                List.of(Element.of("_id", 10L), Element.of("name", "Ada"), Element.of("age", 30)));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity).isEqualTo(map);
+            softly.assertThat(map).isEqualTo(entity);
+            softly.assertThat(entity.hashCode()).isEqualTo(map.hashCode());
+            softly.assertThat(entity.toMap()).isEqualTo(Map.of("_id", 10L, "name", "Ada", "age", 30));
+        });
+    }
+
+    @Test
+    void shouldAddAndRemoveColumnsOfTheShape() {
+        CommunicationEntity entity = shape.entity();
+        assertThat(entity.isEmpty()).isTrue();
+
+        entity.add("name", "Ada");
+        entity.add(Element.of("age", 30));
+        entity.addNull("_id");
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.size()).isEqualTo(3);
+            softly.assertThat(entity.find("age", int.class)).contains(30);
+            softly.assertThat(entity.find("_id")).contains(Element.of("_id", null));
+            softly.assertThat(entity.remove("name")).isTrue();
+            softly.assertThat(entity.remove("name")).isFalse();
+            softly.assertThat(entity.contains("name")).isFalse();
+            softly.assertThat(entity.size()).isEqualTo(2);
+        });
+
+        entity.clear();
+        assertThat(entity.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldMoveToMapWhenAddingColumnOutOfTheShape() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 30);
+        CommunicationEntity copy = entity.copy();
+
+        entity.add("city", "Salvador");
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.size()).isEqualTo(4);
+            softly.assertThat(entity.find("city", String.class)).contains("Salvador");
+            softly.assertThat(entity.find("name", String.class)).contains("Ada");
+            softly.assertThat(copy.size()).isEqualTo(3);
+            softly.assertThat(copy.contains("city")).isFalse();
+        });
+    }
+
+    @Test
+    void shouldKeepElementsUntilTheColumnChanges() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 30);
+        Element name = entity.find("name").orElseThrow();
+        List<Element> elements = entity.elements();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.find("name")).containsSame(name);
+            softly.assertThat(entity.elements()).isSameAs(elements).contains(name);
+        });
+
+        entity.add("name", "Grace");
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.find("name", String.class)).contains("Grace");
+            softly.assertThat(entity.elements()).isNotSameAs(elements).contains(Element.of("name", "Grace"));
+            softly.assertThat(entity.find("_id")).containsSame(elements.get(0));
+        });
+    }
+}
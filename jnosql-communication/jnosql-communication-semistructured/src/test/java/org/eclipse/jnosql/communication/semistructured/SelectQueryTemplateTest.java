@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SelectQueryTemplateTest {
+
+    private final SelectQueryParser parser = new SelectQueryParser();
+
+    private final CommunicationObserverParser observer = new CommunicationObserverParser() {
+    };
+
+    @Test
+    void shouldBindValues() {
+        var template = template("FROM entity WHERE age = :age AND name = :name ORDER BY name");
+
+        SelectQuery query = template.bind(12, "Ada");
+
+        List<CriteriaCondition> conditions = query.condition().orElseThrow().element().get(new TypeReference<>() {
+        });
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.parameters()).containsExactly("age", "name");
+            soft.assertThat(query.name()).isEqualTo("entity");
+            soft.assertThat(query.sorts()).hasSize(1);
+            soft.assertThat(query.condition().orElseThrow().condition()).isEqualTo(Condition.AND);
+            soft.assertThat(conditions.get(0).element().get()).isEqualTo(12);
+            soft.assertThat(conditions.get(1).element().get()).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldNotChangeQueriesAlreadyBound() {
+        var template = template("FROM entity WHERE age = :age");
+
+        SelectQuery first = template.bind(10);
+        SelectQuery second = template.bind(20);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.condition().orElseThrow().element().get()).isEqualTo(10);
+            soft.assertThat(second.condition().orElseThrow().element().get()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    void shouldUseSingleSlotToRepeatedParameter() {
+        var template = template("FROM entity WHERE age > :age OR stamina > :age");
+
+        SelectQuery query = template.bind(10);
+
+        List<CriteriaCondition> conditions = query.condition().orElseThrow().element().get(new TypeReference<>() {
+        });
+        assertThat(template.parameters()).containsExactly("age");
+        assertThat(conditions).extracting(c -> c.element().get()).containsExactly(10, 10);
+    }
+
+    @Test
+    void shouldBindParametersInsideLists() {
+        var template = template("FROM entity WHERE age BETWEEN ?1 AND 30 AND name IN (?2, \"Ada\")");
+
+        SelectQuery query = template.bind(10, "Poliana");
+
+        List<CriteriaCondition> conditions = query.condition().orElseThrow().element().get(new TypeReference<>() {
+        });
+        List<?> between = (List<?>) conditions.get(0).element().get();
+        List<?> in = (List<?>) conditions.get(1).element().get();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(conditions.get(0).condition()).isEqualTo(Condition.BETWEEN);
+            soft.assertThat(((Value) between.get(0)).get()).isEqualTo(10);
+            soft.assertThat(between.get(1)).isEqualTo(30);
+            soft.assertThat(conditions.get(1).condition()).isEqualTo(Condition.IN);
+            soft.assertThat(((Value) in.get(0)).get()).isEqualTo("Poliana");
+            soft.assertThat(in.get(1)).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldKeepNegation() {
+        var template = template("FROM entity WHERE name NOT LIKE :name");
+
+        CriteriaCondition condition = template.bind("Ada").condition().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.NOT);
+            CriteriaCondition like = condition.element().get(CriteriaCondition.class);
+            soft.assertThat(like.condition()).isEqualTo(Condition.LIKE);
+            soft.assertThat(like.element().get()).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldShareConditionWithoutParameters() {
+        var template = template("FROM entity WHERE age = 10");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.parameters()).isEmpty();
+            soft.assertThat(template.bind()).isEqualTo(template.bind());
+            soft.assertThat(template("FROM entity").bind().condition()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldKeepEmptyValuesUnbound() {
+        var template = template("FROM entity WHERE age = :age");
+
+        Element element = template.bind((Object) null).condition().orElseThrow().element();
+
+        assertThatThrownBy(element::get).isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesDoNotMatchParameters() {
+        var template = template("FROM entity WHERE age = :age");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(template::bind).isInstanceOf(QueryException.class);
+            soft.assertThatThrownBy(() -> template.bind(1, 2)).isInstanceOf(QueryException.class);
+            soft.assertThatThrownBy(() -> template.bind((Object[]) null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldBindFromSeveralThreads() throws InterruptedException, ExecutionException {
+        var template = template("FROM entity WHERE age = :age");
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            List<Future<Object>> results = IntStream.range(0, 100)
+                    .mapToObj(index -> executor.submit(() -> template.bind(index)
+                            .condition().orElseThrow().element().get()))
+                    .toList();
+            for (int index = 0; index < results.size(); index++) {
+                assertThat(results.get(index).get()).isEqualTo(index);
+            }
+        }
+    }
+
+    @Test
+    void shouldBindDeleteQuery() {
+        var deleteQuery = DeleteProvider.INSTANCE.apply("DELETE FROM entity WHERE age = :age");
+        DeleteQueryTemplate template = new DeleteQueryParser().apply(deleteQuery, observer).template();
+
+        DeleteQuery first = template.bind(10);
+        DeleteQuery second = template.bind(20);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.parameters()).containsExactly("age");
+            soft.assertThat(first.name()).isEqualTo("entity");
+            soft.assertThat(first.condition().orElseThrow().element().get()).isEqualTo(10);
+            soft.assertThat(second.condition().orElseThrow().element().get()).isEqualTo(20);
+        });
+    }
+
+    private SelectQueryTemplate template(String query) {
+        var selectQuery = SelectProvider.INSTANCE.apply(query, null);
+        return parser.apply(selectQuery, observer).template();
+    }
+}
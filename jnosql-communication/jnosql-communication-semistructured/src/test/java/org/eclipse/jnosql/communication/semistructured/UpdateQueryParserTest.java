@@ -354,6 +354,20 @@ class UpdateQueryParserTest {
         });
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
+    void shouldReturnUpdateCountFromPrepareStatement(String query) {
+        Mockito.when(manager.updateCount(Mockito.any(UpdateQuery.class))).thenReturn(3L);
+
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepare.isUpdate()).isTrue();
+            soft.assertThat(prepare.count()).isEqualTo(3L);
+        });
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = ?1"})
     void shouldExecutePrepareStatementPosition(String query) {
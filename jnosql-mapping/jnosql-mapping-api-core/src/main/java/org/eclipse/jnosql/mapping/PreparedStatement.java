@@ -51,11 +51,12 @@ public interface PreparedStatement {
     <T> Optional<T> singleResult();
 
     /**
-     * Returns the number of elements in the result.
+     * Returns the number of elements in the result. For an update operation, it executes the update and returns
+     * the number of updated entities.
      *
      * @return the number of elements
      * @throws QueryException if there are parameters left to bind
-     * @throws IllegalArgumentException if the operation is not a count operation
+     * @throws IllegalArgumentException if the operation is neither a count nor an update operation
      */
     long count();
 
@@ -66,4 +67,14 @@ public interface PreparedStatement {
      */
     boolean isCount();
 
+    /**
+     * Checks if the operation is an update operation, whose {@link #count()} executes it and returns the number of
+     * updated entities.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    default boolean isUpdate() {
+        return false;
+    }
+
 }
\ No newline at end of file
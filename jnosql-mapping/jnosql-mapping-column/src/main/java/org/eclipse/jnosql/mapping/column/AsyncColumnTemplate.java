@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.mapping.semistructured.AsyncSemiStructuredTemplate;
+
+/**
+ * The asynchronous companion of {@link ColumnTemplate}, for column-based operations that return a
+ * {@link java.util.concurrent.CompletionStage} or a {@link java.util.concurrent.Flow.Publisher}.
+ *
+ * @see AsyncSemiStructuredTemplate
+ * @see ColumnTemplate
+ */
+public interface AsyncColumnTemplate extends AsyncSemiStructuredTemplate {
+
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Vetoed;
+import org.eclipse.jnosql.mapping.semistructured.AbstractAsyncSemiStructuredTemplate;
+import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An {@code ApplicationScoped} producer class responsible for creating instances of {@link AsyncColumnTemplate}
+ * that run the operations of a {@link ColumnTemplate} on virtual threads.
+ */
+@ApplicationScoped
+public class AsyncColumnTemplateProducer implements Function<ColumnTemplate, AsyncColumnTemplate> {
+
+    @Override
+    public AsyncColumnTemplate apply(ColumnTemplate template) {
+        Objects.requireNonNull(template, "template is required");
+        return new ProducerAsyncColumnTemplate(template);
+    }
+
+    @Vetoed
+    static class ProducerAsyncColumnTemplate extends AbstractAsyncSemiStructuredTemplate
+            implements AsyncColumnTemplate {
+
+        private final ColumnTemplate template;
+
+        ProducerAsyncColumnTemplate(ColumnTemplate template) {
+            this.template = template;
+        }
+
+        ProducerAsyncColumnTemplate() {
+            this(null);
+        }
+
+        @Override
+        protected SemiStructuredTemplate template() {
+            return template;
+        }
+    }
+}
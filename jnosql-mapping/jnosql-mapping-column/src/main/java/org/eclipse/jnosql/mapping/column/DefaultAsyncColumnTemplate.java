@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Database;
+import org.eclipse.jnosql.mapping.DatabaseType;
+import org.eclipse.jnosql.mapping.semistructured.AbstractAsyncSemiStructuredTemplate;
+import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
+
+
+@Default
+@ApplicationScoped
+@Database(DatabaseType.COLUMN)
+class DefaultAsyncColumnTemplate extends AbstractAsyncSemiStructuredTemplate implements AsyncColumnTemplate {
+
+    private final ColumnTemplate template;
+
+    @Inject
+    DefaultAsyncColumnTemplate(@Database(DatabaseType.COLUMN) ColumnTemplate template) {
+        this.template = template;
+    }
+
+    DefaultAsyncColumnTemplate() {
+        this(null);
+    }
+
+    @Override
+    protected SemiStructuredTemplate template() {
+        return template;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, ColumnTemplate.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, ColumnExtension.class})
+class AsyncColumnTemplateProducerTest {
+
+    @Inject
+    private AsyncColumnTemplateProducer producer;
+
+    @Test
+    void shouldReturnErrorWhenTemplateNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> producer.apply(null));
+    }
+
+    @Test
+    void shouldReturn() {
+        ColumnTemplate template = Mockito.mock(ColumnTemplate.class);
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Mockito.when(template.count(query)).thenReturn(3L);
+
+        AsyncColumnTemplate asyncTemplate = producer.apply(template);
+
+        assertNotNull(asyncTemplate);
+        Assertions.assertEquals(3L, asyncTemplate.count(query).toCompletableFuture().join());
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.core;
 
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
@@ -24,19 +25,31 @@ import jakarta.nosql.AttributeConverter;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * The {@link jakarta.nosql.Convert} collection, this instance will generate/create an instance.
+ * The converter is resolved once per converter class and reused on the following calls. A converter with a
+ * normal scope is kept as its client proxy, and a {@link jakarta.enterprise.context.Dependent} one is destroyed
+ * when this bean is destroyed, at the container shutdown. A converter created by constructor is kept the same way, so
+ * each lookup is a single map read and the converters are shared across threads.
  */
 @ApplicationScoped
 public class Converters {
 
     private static final Logger LOGGER = Logger.getLogger(Converters.class.getName());
 
+    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+
+    private final List<CreationalContext<?>> dependents = new CopyOnWriteArrayList<>();
+
     @Inject
     private BeanManager beanManager;
 
@@ -54,25 +67,53 @@ public class Converters {
         return getInstance(metadata);
     }
 
-
-
     @SuppressWarnings("unchecked")
     private <T> T getInstance(FieldParameterMetadata metadata) {
         Class<T> type = (Class<T>) metadata.converter()
                 .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                         + metadata.name() + " in the Field: " + metadata.type()));
 
+        Object instance = instances.get(type);
+        if (instance != null) {
+            return (T) instance;
+        }
+        return createInstance(type, metadata);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T createInstance(Class<T> type, FieldParameterMetadata metadata) {
         Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, type, ctx);
+            T instance = (T) beanManager.getReference(bean, type, ctx);
+            boolean dependent = !beanManager.isNormalScope(bean.getScope());
+            Object current = instances.putIfAbsent(type, instance);
+            if (current != null) {
+                if (dependent) {
+                    ctx.release();
+                }
+                return (T) current;
+            }
+            if (dependent) {
+                dependents.add(ctx);
+            }
+            return instance;
         } else {
             LOGGER.log(Level.FINE, "The converter type: " + type + " not found on CDI context, creating by constructor");
-            return (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
+            T instance = (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                     + metadata.name() + " in the Field: " + metadata.type()));
+            Object current = instances.putIfAbsent(type, instance);
+            return current == null ? instance : (T) current;
         }
+    }
 
+    @PreDestroy
+    void destroy() {
+        LOGGER.log(Level.FINEST, () -> "Releasing " + dependents.size() + " dependent converters");
+        dependents.forEach(CreationalContext::release);
+        dependents.clear();
+        instances.clear();
     }
 
 
@@ -30,23 +30,35 @@ import java.util.Objects;
  */
 public class NoSQLPage<T> implements Page<T> {
 
+    private static final long NO_TOTAL = -1L;
+
     private final List<T> entities;
 
     private final PageRequest pageRequest;
 
-    private NoSQLPage(List<T> entities, PageRequest pageRequest) {
+    private final long totalElements;
+
+    private NoSQLPage(List<T> entities, PageRequest pageRequest, long totalElements) {
         this.entities = entities;
         this.pageRequest = pageRequest;
+        this.totalElements = totalElements;
     }
 
     @Override
     public long totalElements() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        if (!hasTotals()) {
+            throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        }
+        return this.totalElements;
     }
 
     @Override
     public long totalPages() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        if (!hasTotals()) {
+            throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        }
+        int size = this.pageRequest.size();
+        return (this.totalElements + size - 1) / size;
     }
 
     @Override
@@ -94,7 +106,7 @@ public class NoSQLPage<T> implements Page<T> {
 
     @Override
     public boolean hasTotals() {
-        throw new UnsupportedOperationException("Eclipse JNoSQL has no support for this feature hasTotals");
+        return this.totalElements != NO_TOTAL;
     }
 
     @Override
@@ -111,12 +123,14 @@ public class NoSQLPage<T> implements Page<T> {
             return false;
         }
         NoSQLPage<?> noSQLPage = (NoSQLPage<?>) o;
-        return Objects.equals(entities, noSQLPage.entities) && Objects.equals(pageRequest, noSQLPage.pageRequest);
+        return totalElements == noSQLPage.totalElements
+                && Objects.equals(entities, noSQLPage.entities)
+                && Objects.equals(pageRequest, noSQLPage.pageRequest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entities, pageRequest);
+        return Objects.hash(entities, pageRequest, totalElements);
     }
 
     @Override
@@ -124,6 +138,7 @@ public class NoSQLPage<T> implements Page<T> {
         return "NoSQLPage{" +
                 "entities=" + entities +
                 ", pageRequest=" + pageRequest +
+                ", totalElements=" + totalElements +
                 '}';
     }
 
@@ -137,7 +152,27 @@ public class NoSQLPage<T> implements Page<T> {
     public static <T> Page<T> of(List<T> entities, PageRequest pageRequest) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(pageRequest, "pageRequest is required");
-        return new NoSQLPage<>(entities, pageRequest);
+        return new NoSQLPage<>(entities, pageRequest, NO_TOTAL);
+    }
+
+    /**
+     * Creates a {@link  Page} implementation from entities, a PageRequest and the total number of elements
+     * that match the query across all pages.
+     * @param entities the entities
+     * @param pageRequest the PageRequest
+     * @param totalElements the total number of elements across all pages
+     * @return a {@link Page} instance that has totals
+     * @param <T> the entity type
+     * @throws NullPointerException when entities or pageRequest is null
+     * @throws IllegalArgumentException when totalElements is negative
+     */
+    public static <T> Page<T> of(List<T> entities, PageRequest pageRequest, long totalElements) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        if (totalElements < 0) {
+            throw new IllegalArgumentException("totalElements must not be negative: " + totalElements);
+        }
+        return new NoSQLPage<>(entities, pageRequest, totalElements);
     }
 
     /**
@@ -20,18 +20,23 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.repository.CrudRepository;
 import jakarta.nosql.Template;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
 import static org.eclipse.jnosql.mapping.IdNotFoundException.KEY_NOT_FOUND_EXCEPTION_SUPPLIER;
 
 /**
@@ -46,6 +51,12 @@ import static org.eclipse.jnosql.mapping.IdNotFoundException.KEY_NOT_FOUND_EXCEP
  */
 public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K> {
 
+    /**
+     * The default number of ids sent to the database on each set-based operation,
+     * see {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}.
+     */
+    protected static final int DEFAULT_BATCH_SIZE = 1_000;
+
     /**
      * Retrieves the template associated with this repository.
      *
@@ -101,6 +112,37 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
         return "The AbstractRepository does not support %s method";
     }
 
+    /**
+     * Returns the number of ids sent to the database on each set-based operation, such as a select or a delete by
+     * a set of ids. By default, it reads {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE} and
+     * falls back to {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Returns the ids, among the given ones, of the entities that are already stored. {@link #saveAll(List)} uses
+     * it to split the entities into one bulk insert and one bulk update. By default, it checks each id with
+     * {@link #existsById(Object)}; the repositories of databases that select by a set of ids override it.
+     *
+     * @param ids the ids to check, never null
+     * @return the ids that are stored
+     */
+    @SuppressWarnings("unchecked")
+    protected Set<Object> existingIds(List<Object> ids) {
+        Set<Object> existing = new HashSet<>();
+        for (Object id : ids) {
+            if (existsById((K) id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         requireNonNull(entity, "Entity is required");
@@ -115,7 +157,38 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     @Override
     public <S extends T> List<S> saveAll(List<S> entities) {
         requireNonNull(entities, "entities is required");
-        return entities.stream().map(this::save).collect(toList());
+        FieldMetadata idField = getIdField();
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (S entity : entities) {
+            requireNonNull(entity, "entity is required");
+            Object id = idField.read(entity);
+            if (nonNull(id)) {
+                ids.add(id);
+            }
+        }
+        Set<Object> existing = ids.isEmpty() ? Set.of() : existingIds(ids);
+        Set<Object> inserted = new HashSet<>();
+        boolean[] updates = new boolean[entities.size()];
+        List<S> toInsert = new ArrayList<>();
+        List<S> toUpdate = new ArrayList<>();
+        for (int index = 0; index < entities.size(); index++) {
+            S entity = entities.get(index);
+            Object id = idField.read(entity);
+            updates[index] = nonNull(id) && (existing.contains(id) || !inserted.add(id));
+            if (updates[index]) {
+                toUpdate.add(entity);
+            } else {
+                toInsert.add(entity);
+            }
+        }
+        Iterator<S> insertedEntities = iterator(toInsert.isEmpty() ? null : template().insert(toInsert));
+        Iterator<S> updatedEntities = iterator(toUpdate.isEmpty() ? null : template().update(toUpdate));
+        List<S> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            Iterator<S> persisted = updates[index] ? updatedEntities : insertedEntities;
+            result.add(persisted != null && persisted.hasNext() ? persisted.next() : entities.get(index));
+        }
+        return result;
     }
 
 
@@ -159,9 +232,16 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void deleteAll(List<? extends T>  entities) {
         requireNonNull(entities, "entities is required");
-        entities.forEach(this::delete);
+        FieldMetadata idField = getIdField();
+        List<K> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            requireNonNull(entity, "entity is required");
+            ids.add((K) idField.read(entity));
+        }
+        deleteByIdIn(ids);
     }
 
     @Override
@@ -210,5 +290,7 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
         throw new UnsupportedOperationException(String.format(getErrorMessage(), "findAll"));
     }
 
-
+    private static <S> Iterator<S> iterator(Iterable<S> entities) {
+        return entities == null ? null : entities.iterator();
+    }
 }
@@ -15,13 +15,14 @@
 package org.eclipse.jnosql.mapping.core.query;
 
 import jakarta.data.restrict.Restriction;
-import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.DELETE;
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.INSERT;
@@ -37,6 +38,8 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
  */
 public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler {
 
+    private final Map<Method, RepositoryMethodPlan> plans = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the underlying repository associated with this proxy.
      *
@@ -154,11 +157,32 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, repositoryType());
+        RepositoryType type = plan(method).type();
 
         return invokeForMethodType(type, instance, method, params);
     }
 
+    /**
+     * Returns the invocation plan of the method, it is created on the first invocation and reused afterward.
+     *
+     * @param method the repository method
+     * @return the invocation plan
+     */
+    protected RepositoryMethodPlan plan(Method method) {
+        return plans.computeIfAbsent(method, this::createPlan);
+    }
+
+    /**
+     * Creates the invocation plan of the method. Override it to return a {@link RepositoryMethodPlan} subclass
+     * that keeps what the implementation compiles from the method.
+     *
+     * @param method the repository method
+     * @return the invocation plan
+     */
+    protected RepositoryMethodPlan createPlan(Method method) {
+        return RepositoryMethodPlan.of(method, repositoryType());
+    }
+
     /**
      * This method allows overriding and intercepting repository method invocation in children
      * @param type Type of the method executed on the repository
@@ -201,7 +225,7 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
                 return unwrapInvocationTargetException(() -> executeParameterBased(instance, method, params));
             }
             case CUSTOM_REPOSITORY -> {
-                Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
+                Object customRepository = plan(method).customRepository();
                 return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
             }
             case SAVE -> {
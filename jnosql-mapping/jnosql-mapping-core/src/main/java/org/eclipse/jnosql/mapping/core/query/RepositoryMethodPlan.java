@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * The invocation plan of a repository method. It keeps what does not change between calls of the same method,
+ * such as the {@link RepositoryType}, so a repository proxy resolves it once instead of on every invocation.
+ * When the method belongs to a custom repository, the bean is resolved through CDI on the first call and reused.
+ * A repository implementation extends it to keep, with typed fields, what it compiles from the method, see
+ * {@link AbstractRepositoryProxy#createPlan(Method)}.
+ */
+public class RepositoryMethodPlan {
+
+    private final Method method;
+
+    private final RepositoryType type;
+
+    private volatile Object customRepository;
+
+    /**
+     * Creates the invocation plan of a repository method.
+     *
+     * @param method         the method
+     * @param repositoryType the repository interface
+     * @throws NullPointerException          when either method or repositoryType is null
+     * @throws UnsupportedOperationException when the method is not supported by a repository
+     */
+    protected RepositoryMethodPlan(Method method, Class<?> repositoryType) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(repositoryType, "repositoryType is required");
+        this.method = method;
+        this.type = RepositoryType.of(method, repositoryType);
+    }
+
+    /**
+     * Returns the method of this plan.
+     *
+     * @return the method
+     */
+    public Method method() {
+        return method;
+    }
+
+    /**
+     * Returns the repository type of the method.
+     *
+     * @return the repository type
+     */
+    public RepositoryType type() {
+        return type;
+    }
+
+    /**
+     * Returns the bean that implements the method when the type is {@link RepositoryType#CUSTOM_REPOSITORY}.
+     * The bean is looked up on the first call and reused afterward.
+     *
+     * @return the custom repository bean
+     * @throws UnsupportedOperationException when the method does not belong to a custom repository
+     */
+    public Object customRepository() {
+        if (!RepositoryType.CUSTOM_REPOSITORY.equals(type)) {
+            throw new UnsupportedOperationException("The method " + method + " does not belong to a custom repository");
+        }
+        Object bean = customRepository;
+        if (bean == null) {
+            synchronized (this) {
+                bean = customRepository;
+                if (bean == null) {
+                    bean = CDI.current().select(method.getDeclaringClass()).get();
+                    customRepository = bean;
+                }
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Creates the invocation plan of a repository method.
+     *
+     * @param method         the method
+     * @param repositoryType the repository interface
+     * @return the invocation plan
+     * @throws NullPointerException          when either method or repositoryType is null
+     * @throws UnsupportedOperationException when the method is not supported by a repository
+     */
+    public static RepositoryMethodPlan of(Method method, Class<?> repositoryType) {
+        return new RepositoryMethodPlan(method, repositoryType);
+    }
+
+    @Override
+    public String toString() {
+        return "RepositoryMethodPlan{" +
+                "method=" + method +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -91,6 +91,9 @@ public enum DynamicReturnConverter {
         if (prepare.isCount()) {
             return prepare.count();
         }
+        if (prepare.isUpdate()) {
+            return updated(method, prepare.count());
+        }
 
         var pageRequest = dynamicQueryMethod.pageRequest();
 
@@ -110,6 +113,17 @@ public enum DynamicReturnConverter {
         return convert(dynamicReturn);
     }
 
+    private static Object updated(Method method, long count) {
+        Class<?> returnType = method.getReturnType();
+        if (long.class.equals(returnType) || Long.class.equals(returnType)) {
+            return count;
+        }
+        if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+            return (int) count;
+        }
+        return null;
+    }
+
     public static boolean queryContainsNamedParameters(final String query) {
 
         if (query == null || query.isEmpty()) {
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.communication.query.QueryPlanCache;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.logging.Logger;
+
+/**
+ * This CDI extension sizes the shared {@link QueryPlanCache} from the {@link MicroProfileSettings} using the
+ * {@link Configurations#QUERY_CACHE_MAX_SIZE} and {@link Configurations#QUERY_CACHE_EXPIRE_AFTER_ACCESS} properties.
+ */
+public class QueryPlanCacheExtension implements Extension {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryPlanCacheExtension.class.getName());
+
+    void beforeBeanDiscovery(@Observes BeforeBeanDiscovery event) {
+        QueryPlanCache.INSTANCE.configure(MicroProfileSettings.INSTANCE);
+        LOGGER.fine(() -> "The query plan cache is ready: " + QueryPlanCache.INSTANCE.stats());
+    }
+}
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
@@ -62,20 +63,54 @@ public class ParamsBinder {
         Objects.requireNonNull(method, "method is required");
 
         List<String> names = params.getParametersNames();
+        checkArguments(names, args, method);
+        for (int index = 0; index < names.size(); index++) {
+            String name = names.get(index);
+            Object value = getValue(args, index, field(name).orElse(null));
+            params.bind(name, value);
+        }
+    }
+
+    /**
+     * Creates the binder of the parameters of a compiled query: a function that converts the method arguments into
+     * the values of the parameters. The field of each parameter is resolved once, here, so each call only converts
+     * the arguments.
+     *
+     * @param names  the parameter names, the value of each name is the method argument at the same index
+     * @param method the method
+     * @return the function from the method arguments to the parameter values
+     * @throws NullPointerException when there is null parameter
+     */
+    public Function<Object[], Object[]> binder(List<String> names, Method method) {
+        Objects.requireNonNull(names, "names is required");
+        Objects.requireNonNull(method, "method is required");
+        List<String> parameters = List.copyOf(names);
+        FieldMetadata[] fields = parameters.stream()
+                .map(name -> field(name).orElse(null))
+                .toArray(FieldMetadata[]::new);
+        return args -> {
+            Objects.requireNonNull(args, "args is required");
+            checkArguments(parameters, args, method);
+            Object[] values = new Object[fields.length];
+            for (int index = 0; index < fields.length; index++) {
+                values[index] = getValue(args, index, fields[index]);
+            }
+            return values;
+        };
+    }
+
+    private static void checkArguments(List<String> names, Object[] args, Method method) {
         if (names.size() > args.length) {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
-        for (int index = 0; index < names.size(); index++) {
-            String name = names.get(index);
-            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
-            String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMetadata> field = this.mapping.fields().stream()
-                    .filter(f -> f.name().equals(fieldName)).findFirst();
+    }
 
-            Object value = getValue(args, index, field.orElse(null));
-            params.bind(name, value);
-        }
+    private Optional<FieldMetadata> field(String name) {
+        int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+        String fieldName = name.substring(0, lastIndex);
+        return this.mapping.fields().stream()
+                .filter(f -> f.name().equals(fieldName)).findFirst();
     }
 
     private Object getValue(Object[] args, int index, FieldMetadata field) {
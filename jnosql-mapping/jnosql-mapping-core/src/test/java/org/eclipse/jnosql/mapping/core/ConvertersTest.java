@@ -78,6 +78,51 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReuseConverterInstance() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(MyConverter.class);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReuseConverterCreatedByConstructor() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(VetedConverter.class);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.when(fieldMetadata.newConverter())
+                .thenAnswer(i -> Optional.of(new VetedConverter()));
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReleaseDependentConverter() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(DependentConverter.class);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+        Assertions.assertSame(first, second);
+
+        int destroyed = DependentConverter.DESTROYED.get();
+        converters.destroy();
+        Assertions.assertEquals(destroyed + 1, DependentConverter.DESTROYED.get());
+    }
+
     @Test
     void shouldGetToString(){
         assertThat(this.converters.toString()).isNotNull().isNotBlank().isNotEmpty();
@@ -45,7 +45,36 @@ class NoSQLPageTest {
 
         assertThrows(UnsupportedOperationException.class, page::totalPages);
         assertThrows(UnsupportedOperationException.class, page::totalElements);
-        assertThrows(UnsupportedOperationException.class, page::hasTotals);
+        assertThat(page.hasTotals()).isFalse();
+    }
+
+    @Test
+    void shouldReturnTotals() {
+        Page<Person> page = NoSQLPage.of(Collections.singletonList(Person.builder().withName("Otavio").build()),
+                PageRequest.ofPage(2).size(10), 21);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.hasTotals()).isTrue();
+            soft.assertThat(page.totalElements()).isEqualTo(21L);
+            soft.assertThat(page.totalPages()).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldReturnZeroPagesWhenTotalIsZero() {
+        Page<Person> page = NoSQLPage.of(Collections.emptyList(), PageRequest.ofPage(1), 0);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.hasTotals()).isTrue();
+            soft.assertThat(page.totalElements()).isZero();
+            soft.assertThat(page.totalPages()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTotalIsNegative() {
+        assertThrows(IllegalArgumentException.class, () ->
+                NoSQLPage.of(Collections.emptyList(), PageRequest.ofPage(1), -1));
     }
 
     @Test
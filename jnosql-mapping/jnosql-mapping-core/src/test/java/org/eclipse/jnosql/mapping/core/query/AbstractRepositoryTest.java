@@ -146,6 +146,36 @@ class AbstractRepositoryTest {
         Mockito.verify(template).update(person);
     }
 
+    @Test
+    void shouldSaveAllSplittingInsertsAndUpdates() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var poliana = Person.builder().withId(20L).withAge(20).withName("Poliana").build();
+        var otavio = Person.builder().withAge(30).withName("Otavio").build();
+        Mockito.when(template.find(Person.class, 10L)).thenReturn(Optional.of(ada));
+        Mockito.when(template.find(Person.class, 20L)).thenReturn(Optional.empty());
+        Mockito.when(template.insert(Mockito.<Iterable<Person>>any())).thenAnswer(i -> i.getArgument(0));
+        Mockito.when(template.update(Mockito.<Iterable<Person>>any())).thenAnswer(i -> i.getArgument(0));
+
+        var result = this.repository.saveAll(List.of(ada, poliana, otavio));
+
+        Mockito.verify(template).insert(List.of(poliana, otavio));
+        Mockito.verify(template).update(List.of(ada));
+        Mockito.verify(template, Mockito.never()).insert(Mockito.any(Person.class));
+        Assertions.assertEquals(List.of(ada, poliana, otavio), result);
+    }
+
+    @Test
+    void shouldSaveAllUpdatingRepeatedIdOfTheSameBatch() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var adaUpdated = Person.builder().withId(10L).withAge(11).withName("Ada").build();
+        Mockito.when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+
+        this.repository.saveAll(List.of(ada, adaUpdated));
+
+        Mockito.verify(template).insert(List.of(ada));
+        Mockito.verify(template).update(List.of(adaUpdated));
+    }
+
     @Test
     void shouldReturnException(){
         Assertions.assertThrows(UnsupportedOperationException.class, () -> this.repository.findAll());
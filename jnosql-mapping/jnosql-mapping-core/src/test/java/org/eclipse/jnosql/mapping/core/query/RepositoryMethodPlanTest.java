@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.data.repository.CrudRepository;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.CDI;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryMethodPlanTest {
+
+    @Test
+    void shouldCreatePlan() throws NoSuchMethodException {
+        Method method = TestRepository.class.getMethod("findEntityById", UUID.class);
+        var plan = RepositoryMethodPlan.of(method, TestRepository.class);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(plan.method()).isEqualTo(method);
+            soft.assertThat(plan.type()).isEqualTo(RepositoryType.FIND_BY);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenMethodIsNull() {
+        assertThatThrownBy(() -> RepositoryMethodPlan.of(null, TestRepository.class))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenIsNotCustomRepository() throws NoSuchMethodException {
+        var plan = RepositoryMethodPlan.of(TestRepository.class.getMethod("findAll"), TestRepository.class);
+        assertThatThrownBy(plan::customRepository).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldResolveCustomRepositoryOnce() throws NoSuchMethodException {
+        try (MockedStatic<CDI> cdi = Mockito.mockStatic(CDI.class)) {
+            CDI<Object> current = Mockito.mock(CDI.class);
+            Instance<Calculate> instance = Mockito.mock(Instance.class);
+            Calculate calculate = () -> BigDecimal.ONE;
+            Mockito.when(instance.isResolvable()).thenReturn(true);
+            Mockito.when(instance.get()).thenReturn(calculate);
+            cdi.when(CDI::current).thenReturn(current);
+            Mockito.when(current.select(Calculate.class)).thenReturn(instance);
+
+            var plan = RepositoryMethodPlan.of(Calculate.class.getMethod("sum"), CrudRepository.class);
+            plan.customRepository();
+
+            assertThat(plan.customRepository()).isSameAs(calculate);
+            Mockito.verify(instance, Mockito.times(1)).get();
+        }
+    }
+
+    @Test
+    void shouldCreatePlanThroughTheProxy() throws NoSuchMethodException {
+        var proxy = new TestRepositoryProxy() {
+            @Override
+            protected RepositoryMethodPlan createPlan(Method method) {
+                return new TypedPlan(method, repositoryType());
+            }
+        };
+        Method method = TestRepository.class.getMethod("findAll");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(proxy.plan(method)).isInstanceOf(TypedPlan.class);
+            soft.assertThat(proxy.plan(method).type()).isEqualTo(RepositoryType.FIND_ALL);
+        });
+    }
+
+    @Test
+    void shouldReusePlanOnProxy() throws Throwable {
+        var proxy = new TestRepositoryProxy();
+        Method method = TestRepository.class.getMethod("findAll");
+        proxy.invoke(proxy, method, new Object[]{});
+
+        assertThat(proxy.plan(method)).isSameAs(proxy.plan(method));
+    }
+
+    public interface Calculate {
+        BigDecimal sum();
+    }
+
+    private static final class TypedPlan extends RepositoryMethodPlan {
+
+        private TypedPlan(Method method, Class<?> repositoryType) {
+            super(method, repositoryType);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Vetoed;
+import org.eclipse.jnosql.mapping.semistructured.AbstractAsyncSemiStructuredTemplate;
+import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An {@code ApplicationScoped} producer class responsible for creating instances of {@link AsyncDocumentTemplate}
+ * that run the operations of a {@link DocumentTemplate} on virtual threads.
+ */
+@ApplicationScoped
+public class AsyncDocumentTemplateProducer implements Function<DocumentTemplate, AsyncDocumentTemplate> {
+
+    @Override
+    public AsyncDocumentTemplate apply(DocumentTemplate template) {
+        Objects.requireNonNull(template, "template is required");
+        return new ProducerAsyncDocumentTemplate(template);
+    }
+
+    @Vetoed
+    static class ProducerAsyncDocumentTemplate extends AbstractAsyncSemiStructuredTemplate
+            implements AsyncDocumentTemplate {
+
+        private final DocumentTemplate template;
+
+        ProducerAsyncDocumentTemplate(DocumentTemplate template) {
+            this.template = template;
+        }
+
+        ProducerAsyncDocumentTemplate() {
+            this(null);
+        }
+
+        @Override
+        protected SemiStructuredTemplate template() {
+            return template;
+        }
+    }
+}
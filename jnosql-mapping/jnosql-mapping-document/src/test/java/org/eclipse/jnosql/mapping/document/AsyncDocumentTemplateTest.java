@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.Database;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.jnosql.mapping.DatabaseType.DOCUMENT;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, DocumentTemplate.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, DocumentExtension.class})
+class AsyncDocumentTemplateTest {
+
+    @Inject
+    private AsyncDocumentTemplate template;
+
+    @Inject
+    @Database(DOCUMENT)
+    private AsyncDocumentTemplate qualifier;
+
+    @Test
+    void shouldInjectTemplate() {
+        Assertions.assertNotNull(template);
+    }
+
+    @Test
+    void shouldInjectQualifier() {
+        Assertions.assertNotNull(qualifier);
+    }
+
+    @Test
+    void shouldRunOperationOnTheTemplate() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Assertions.assertEquals(0L, template.count(query).toCompletableFuture().join());
+    }
+}
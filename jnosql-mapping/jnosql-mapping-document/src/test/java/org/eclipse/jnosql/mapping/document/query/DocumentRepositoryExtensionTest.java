@@ -14,7 +14,11 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.Order;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, EntityConverter.class, SemiStructuredRepositoryProxy.class})
@@ -56,6 +61,18 @@ class DocumentRepositoryExtensionTest {
         assertEquals("Default", person.getName());
     }
 
+    @Test
+    void shouldCountTheTotalThroughTheTemplateBean() {
+        System.setProperty(Configurations.PAGINATION_TOTAL.get(), "true");
+        try {
+            Page<Person> page = repository.findAll(PageRequest.ofPage(2).size(2), Order.by());
+            assertTrue(page.hasTotals());
+            assertEquals(0L, page.totalElements());
+        } finally {
+            System.clearProperty(Configurations.PAGINATION_TOTAL.get());
+        }
+    }
+
     @Test
     void shouldUseInstantiation(){
         assertNotNull(repositoryMock);
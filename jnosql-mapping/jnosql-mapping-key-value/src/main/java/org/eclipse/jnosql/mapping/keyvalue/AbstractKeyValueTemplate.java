@@ -16,20 +16,33 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
+import static org.eclipse.jnosql.communication.Configurations.KEY_VALUE_GET_PARALLELISM;
 
 /**
  * This class provides a skeletal implementation of the {@link KeyValueTemplate} interface,
@@ -37,6 +50,14 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    private static final Logger LOGGER = Logger.getLogger(AbstractKeyValueTemplate.class.getName());
+
+    /**
+     * The default number of keys read from the manager on each call of a multi-get,
+     * see {@link Configurations#BATCH_SIZE}.
+     */
+    protected static final int DEFAULT_BATCH_SIZE = 1_000;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -103,15 +124,18 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        List<List<K>> chunks = chunks(keys);
+        List<List<T>> loaded = load(chunks, type);
+        List<T> entities = new ArrayList<>();
+        for (List<T> chunk : loaded) {
+            for (T entity : chunk) {
+                getEventManager().firePostEntity(entity);
+                entities.add(entity);
+            }
+        }
+        return entities;
     }
 
-
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
@@ -149,12 +173,121 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
                 .map(toUnary(getEventManager()::firePreEntity))
                 .map(getConverter()::toKeyValue)
                 .map(toUnary(persistAction))
-                .map(it -> getConverter().toEntity((Class<T>) entity.getClass(), it))
+                .map(it -> entity)
                 .map(toUnary(getEventManager()::firePostEntity))
                 .findFirst()
                 .orElseThrow();
     }
 
+    /**
+     * Returns the number of keys read from the manager on each call of a multi-get. By default, it reads
+     * {@link Configurations#BATCH_SIZE} and falls back to {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Returns the maximum number of chunks of a multi-get read at the same time. By default, it reads
+     * {@link Configurations#KEY_VALUE_GET_PARALLELISM} and falls back to one, so the chunks are read in sequence.
+     *
+     * @return the parallelism
+     */
+    protected int parallelism() {
+        int parallelism = MicroProfileSettings.INSTANCE.get(KEY_VALUE_GET_PARALLELISM, Integer.class).orElse(1);
+        return Math.max(parallelism, 1);
+    }
+
+    private <K> List<List<K>> chunks(Iterable<K> keys) {
+        int batchSize = batchSize();
+        List<List<K>> chunks = new ArrayList<>();
+        List<K> chunk = new ArrayList<>();
+        for (K key : keys) {
+            requireNonNull(key, "key is required");
+            chunk.add(key);
+            if (chunk.size() == batchSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private <K, T> List<List<T>> load(List<List<K>> chunks, Class<T> type) {
+        int parallelism = Math.min(parallelism(), chunks.size());
+        if (parallelism <= 1) {
+            return chunks.stream().map(chunk -> loadChunk(chunk, type)).toList();
+        }
+        LOGGER.finest(() -> "Reading " + chunks.size() + " chunks of keys with parallelism " + parallelism);
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().factory())) {
+            List<Future<List<T>>> futures = new ArrayList<>(chunks.size());
+            for (List<K> chunk : chunks) {
+                futures.add(executor.submit(() -> loadChunk(chunk, type)));
+            }
+            List<List<T>> loaded = new ArrayList<>(chunks.size());
+            for (Future<List<T>> future : futures) {
+                loaded.add(future.get());
+            }
+            return loaded;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The multi-get was interrupted", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CommunicationException("Error while reading the keys", exception.getCause());
+        }
+    }
+
+    /**
+     * Reads a chunk with a single call of {@link BucketManager#get(Iterable)}. The manager returns the values without
+     * their keys and in no given order, so each entity is matched to its key by the id it was stored with. Only when
+     * a value cannot be matched, such as an id the entity does not keep, the keys left without an entity are read
+     * one by one.
+     */
+    private <K, T> List<T> loadChunk(List<K> keys, Class<T> type) {
+        KeyValueEntityConverter converter = getConverter();
+        Map<Object, List<Integer>> positions = new HashMap<>();
+        for (int index = 0; index < keys.size(); index++) {
+            positions.computeIfAbsent(converter.toId(type, keys.get(index)), id -> new ArrayList<>(1)).add(index);
+        }
+        List<T> found = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        boolean unmatched = false;
+        Iterable<Value> values = getManager().get(keys);
+        for (Value value : values == null ? List.<Value>of() : values) {
+            T entity = converter.decode(type, value);
+            if (entity == null) {
+                continue;
+            }
+            Object id = converter.id(type, entity);
+            List<Integer> matches = id == null ? null : positions.get(id);
+            if (matches == null) {
+                unmatched = true;
+                continue;
+            }
+            matches.forEach(index -> found.set(index, entity));
+        }
+        if (unmatched) {
+            LOGGER.fine(() -> "The manager returned values that do not match the ids of " + type.getName()
+                    + ", reading the keys left without an entity one by one");
+            for (int index = 0; index < keys.size(); index++) {
+                if (found.get(index) == null) {
+                    K key = keys.get(index);
+                    found.set(index, getManager().get(key)
+                            .map(value -> converter.toEntity(type, KeyValueEntity.of(key, value))).orElse(null));
+                }
+            }
+        }
+        return found.stream().filter(Objects::nonNull).toList();
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -0,0 +1,429 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.ArrayFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.CollectionFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MapFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link KeyValueCodec} that writes the entities in a compact binary format built from their {@link EntityMetadata}.
+ * <p>
+ * An entity is a sequence of fields, each one is the tag of the column, as a varint, followed by its value.
+ * The names are not written, and the tags do not depend on the order of the fields. Each value starts with a byte
+ * of its type: the integers are zigzag varints, the floating-point numbers are fixed-size, the texts and bytes are
+ * length-prefixed, and collections, maps and embedded entities are nested. The null fields are not written.
+ * </p>
+ * <p>
+ * The tag of a column comes from the tag table of its entity, given at {@link #BinaryKeyValueCodec(EntitiesMetadata,
+ * Converters, Map)}: the position of the column in the table, which takes a single byte for the first 64 columns.
+ * A column out of the table, or of an entity without a table, is tagged by the hash of its name, which takes
+ * five bytes. The table is append-only: a new column goes at its end, and a removed column stays in it, so the
+ * stored values keep their tags. The hash tag of a column is read even when the column is in the table, so the
+ * values written before the column joined the table are still decoded.
+ * </p>
+ * <p>
+ * The schema can evolve: the tags the entity does not know, such as the ones of removed fields, are skipped, and the
+ * fields missing from the value, such as the added ones, keep their defaults. Renaming a column changes its tag.
+ * A value that is not binary, such as one stored before this codec was enabled, is decoded as the entity itself.
+ * </p>
+ */
+public class BinaryKeyValueCodec implements KeyValueCodec {
+
+    static final int FORMAT = 1;
+
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int FLOAT = 5;
+    private static final int DOUBLE = 6;
+    private static final int STRING = 7;
+    private static final int BYTES = 8;
+    private static final int LIST = 9;
+    private static final int MAP = 10;
+    private static final int ENTITY = 11;
+
+    private final EntitiesMetadata entities;
+
+    private final Converters converters;
+
+    private final Map<Class<?>, List<String>> tags;
+
+    private final Map<Class<?>, Schema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the codec.
+     *
+     * @param entities   the entities metadata
+     * @param converters the converters of the fields with {@link jakarta.nosql.Convert}
+     * @throws NullPointerException when either entities or converters is null
+     */
+    public BinaryKeyValueCodec(EntitiesMetadata entities, Converters converters) {
+        this(entities, converters, Map.of());
+    }
+
+    /**
+     * Creates the codec with the tag table of the entities and embeddables, the column names in the order of their
+     * tags, e.g. {@code Map.of(Person.class, List.of("_id", "name", "age"))}.
+     *
+     * @param entities   the entities metadata
+     * @param converters the converters of the fields with {@link jakarta.nosql.Convert}
+     * @param tags       the column names by entity type
+     * @throws NullPointerException     when either entities, converters or tags is null
+     * @throws IllegalArgumentException when a table has the same column twice
+     */
+    public BinaryKeyValueCodec(EntitiesMetadata entities, Converters converters, Map<Class<?>, List<String>> tags) {
+        this.entities = Objects.requireNonNull(entities, "entities is required");
+        this.converters = Objects.requireNonNull(converters, "converters is required");
+        Objects.requireNonNull(tags, "tags is required");
+        tags.forEach((type, columns) -> {
+            if (new HashSet<>(columns).size() != columns.size()) {
+                throw new IllegalArgumentException("The tag table of " + type.getName()
+                        + " has the same column more than once: " + columns);
+            }
+        });
+        this.tags = Map.copyOf(tags);
+    }
+
+    /**
+     * Encodes the entity as a binary value.
+     *
+     * @param entity the entity
+     * @return the value as a byte array
+     * @throws NullPointerException when the entity is null
+     * @throws MappingException     when two columns of the entity have the same tag
+     */
+    @Override
+    public byte[] encode(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        var writer = new BinaryWriter();
+        writer.writeByte(FORMAT);
+        writeEntity(writer, entity, schema(entity.getClass()));
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a binary value, either a byte array or a {@link ByteBuffer}. Any other value is read as the entity.
+     *
+     * @param type  the entity type
+     * @param value the stored value
+     * @param <T>   the entity type
+     * @return the entity
+     * @throws NullPointerException when either type or value is null
+     * @throws MappingException     when the binary value is malformed
+     */
+    @Override
+    public <T> T decode(Class<T> type, Value value) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(value, "value is required");
+        Object stored = value.get();
+        ByteBuffer buffer;
+        if (stored instanceof byte[] bytes) {
+            buffer = ByteBuffer.wrap(bytes);
+        } else if (stored instanceof ByteBuffer byteBuffer) {
+            buffer = byteBuffer.duplicate();
+        } else {
+            return value.get(type);
+        }
+        var reader = new BinaryReader(buffer);
+        int format = reader.readByte();
+        if (format != FORMAT) {
+            throw new MappingException("The binary value has the unsupported format " + format);
+        }
+        return type.cast(readEntity(reader, schema(type)));
+    }
+
+    private void writeEntity(BinaryWriter writer, Object entity, Schema schema) {
+        for (Slot slot : schema.slots()) {
+            Object value = slot.field().read(entity);
+            if (value == null) {
+                continue;
+            }
+            writer.writeVarint(slot.tag());
+            writeValue(writer, slot.converter() == null ? value : slot.converter().convertToDatabaseColumn(value));
+        }
+    }
+
+    private void writeValue(BinaryWriter writer, Object value) {
+        switch (value) {
+            case null -> writer.writeByte(NULL);
+            case Boolean bool -> writer.writeByte(bool ? TRUE : FALSE);
+            case Integer number -> writeInteger(writer, INT, number);
+            case Short number -> writeInteger(writer, INT, number);
+            case Byte number -> writeInteger(writer, INT, number);
+            case Long number -> writeInteger(writer, LONG, number);
+            case Float number -> {
+                writer.writeByte(FLOAT);
+                writer.writeFixed32(Float.floatToIntBits(number));
+            }
+            case Double number -> {
+                writer.writeByte(DOUBLE);
+                writer.writeFixed64(Double.doubleToLongBits(number));
+            }
+            case byte[] bytes -> {
+                writer.writeByte(BYTES);
+                writer.writeBytes(bytes);
+            }
+            case Enum<?> constant -> writeString(writer, constant.name());
+            case Iterable<?> iterable -> {
+                List<Object> items = new ArrayList<>();
+                iterable.forEach(items::add);
+                writeList(writer, items);
+            }
+            case Map<?, ?> map -> {
+                writer.writeByte(MAP);
+                writer.writeVarint(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(writer, entry.getKey());
+                    writeValue(writer, entry.getValue());
+                }
+            }
+            default -> writeObject(writer, value);
+        }
+    }
+
+    private void writeObject(BinaryWriter writer, Object value) {
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            List<Object> items = new ArrayList<>();
+            for (int index = 0; index < Array.getLength(value); index++) {
+                items.add(Array.get(value, index));
+            }
+            writeList(writer, items);
+        } else if (isEntity(type)) {
+            var entity = new BinaryWriter();
+            writeEntity(entity, value, schema(type));
+            writer.writeByte(ENTITY);
+            writer.writeBytes(entity);
+        } else {
+            writeString(writer, value.toString());
+        }
+    }
+
+    private void writeList(BinaryWriter writer, List<Object> items) {
+        writer.writeByte(LIST);
+        writer.writeVarint(items.size());
+        for (Object item : items) {
+            writeValue(writer, item);
+        }
+    }
+
+    private static void writeInteger(BinaryWriter writer, int type, long value) {
+        writer.writeByte(type);
+        writer.writeZigZag(value);
+    }
+
+    private static void writeString(BinaryWriter writer, String value) {
+        writer.writeByte(STRING);
+        writer.writeString(value);
+    }
+
+    private Object readEntity(BinaryReader reader, Schema schema) {
+        Map<String, Object> values = new HashMap<>();
+        while (reader.hasRemaining()) {
+            var slot = schema.slot(reader.readVarint());
+            Object value = readValue(reader, slot == null ? null : slot.hint());
+            if (slot != null && value != null) {
+                values.put(slot.field().name(), fieldValue(slot, value));
+            }
+        }
+        EntityMetadata metadata = schema.metadata();
+        Object entity;
+        if (metadata.constructor().isDefault()) {
+            entity = metadata.newInstance();
+        } else {
+            var builder = ConstructorBuilder.of(metadata.constructor());
+            for (ParameterMetaData parameter : metadata.constructor().parameters()) {
+                Object value = values.remove(parameter.name());
+                if (value == null) {
+                    builder.addEmptyParameter();
+                } else {
+                    builder.add(value);
+                }
+            }
+            entity = builder.build();
+        }
+        for (Slot slot : schema.slots()) {
+            Object value = values.get(slot.field().name());
+            if (value != null) {
+                slot.field().write(entity, value);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Reads the next value, the hint is the class of the embedded entities it may contain; without it,
+     * such as for an unknown tag, the entities are skipped.
+     */
+    private Object readValue(BinaryReader reader, Class<?> hint) {
+        int type = reader.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case INT -> (int) reader.readZigZag();
+            case LONG -> reader.readZigZag();
+            case FLOAT -> Float.intBitsToFloat(reader.readFixed32());
+            case DOUBLE -> Double.longBitsToDouble(reader.readFixed64());
+            case STRING -> reader.readString();
+            case BYTES -> reader.readBytes();
+            case LIST -> {
+                int size = (int) reader.readVarint();
+                List<Object> items = new ArrayList<>();
+                for (int index = 0; index < size; index++) {
+                    items.add(readValue(reader, hint));
+                }
+                yield items;
+            }
+            case MAP -> {
+                int size = (int) reader.readVarint();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int index = 0; index < size; index++) {
+                    map.put(readValue(reader, null), readValue(reader, hint));
+                }
+                yield map;
+            }
+            case ENTITY -> {
+                var entity = reader.readBlock();
+                yield hint != null && isEntity(hint) ? readEntity(entity, schema(hint)) : null;
+            }
+            default -> throw new MappingException("The binary value has the unknown value type " + type);
+        };
+    }
+
+    private Object fieldValue(Slot slot, Object value) {
+        FieldMetadata field = slot.field();
+        if (slot.converter() != null) {
+            return slot.converter().convertToEntityAttribute(value);
+        }
+        if (field instanceof CollectionFieldMetadata collection && collection.isEmbeddable()
+                && value instanceof Collection<?> items) {
+            @SuppressWarnings("unchecked")
+            Collection<Object> instance = (Collection<Object>) collection.collectionInstance();
+            instance.addAll(items);
+            return instance;
+        }
+        if (field instanceof ArrayFieldMetadata array && value instanceof Collection<?> items) {
+            if (array.isEmbeddable()) {
+                return array.arrayInstance(items);
+            }
+            return array.arrayInstance(items.stream().map(item -> Value.of(item).get(array.elementType())).toList());
+        }
+        if (field instanceof MapFieldMetadata map && map.isEmbeddable() && value instanceof Map<?, ?> items) {
+            Map<Object, Object> instance = new LinkedHashMap<>();
+            items.forEach((key, item) -> instance.put(Value.of(key).get(map.keyType()), item));
+            return instance;
+        }
+        if (isEntity(field.type())
+                || field.mappingType() == MappingType.DEFAULT && field.type().isInstance(value)) {
+            return value;
+        }
+        return field.value(Value.of(value));
+    }
+
+    private Schema schema(Class<?> type) {
+        return schemas.computeIfAbsent(type, this::createSchema);
+    }
+
+    private Schema createSchema(Class<?> type) {
+        EntityMetadata metadata = entities.get(type);
+        List<FieldMetadata> fields = metadata.fields();
+        List<String> table = this.tags.getOrDefault(type, List.of());
+        var slots = new Slot[fields.size()];
+        Map<Long, Slot> tags = new HashMap<>();
+        for (int index = 0; index < slots.length; index++) {
+            FieldMetadata field = fields.get(index);
+            AttributeConverter<Object, Object> converter = field.converter().isPresent() ? converters.get(field) : null;
+            var slot = new Slot(tag(table, field.name()), field, converter, hint(field));
+            register(tags, slot.tag(), slot, type);
+            long hash = tag(List.of(), field.name());
+            if (hash != slot.tag()) {
+                register(tags, hash, slot, type);
+            }
+            slots[index] = slot;
+        }
+        return new Schema(metadata, slots, tags);
+    }
+
+    private static void register(Map<Long, Slot> tags, long tag, Slot slot, Class<?> type) {
+        Slot previous = tags.putIfAbsent(tag, slot);
+        if (previous != null) {
+            throw new MappingException(String.format("The columns %s and %s of %s have the same binary tag",
+                    previous.field().name(), slot.field().name(), type.getName()));
+        }
+    }
+
+    /**
+     * Returns the tag of a column: an odd number from its position at the tag table, or an even one from the hash of
+     * its name, so both kinds of tags never clash.
+     */
+    private static long tag(List<String> table, String column) {
+        int position = table.indexOf(column);
+        if (position >= 0) {
+            return (long) position << 1 | 1L;
+        }
+        return Integer.toUnsignedLong(column.hashCode()) << 1;
+    }
+
+    private static Class<?> hint(FieldMetadata field) {
+        return switch (field) {
+            case CollectionFieldMetadata collection -> collection.elementType();
+            case ArrayFieldMetadata array -> array.elementType();
+            case MapFieldMetadata map -> map.valueType();
+            default -> field.type();
+        };
+    }
+
+    private static boolean isEntity(Class<?> type) {
+        MappingType mappingType = MappingType.of(type);
+        return mappingType == MappingType.ENTITY || mappingType == MappingType.EMBEDDED
+                || mappingType == MappingType.EMBEDDED_GROUP;
+    }
+
+    private record Schema(EntityMetadata metadata, Slot[] slots, Map<Long, Slot> tags) {
+
+        Slot slot(long tag) {
+            return tags.get(tag);
+        }
+    }
+
+    private record Slot(long tag, FieldMetadata field, AttributeConverter<Object, Object> converter, Class<?> hint) {
+    }
+}
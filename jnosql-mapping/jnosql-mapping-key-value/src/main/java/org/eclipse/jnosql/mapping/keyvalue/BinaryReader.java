@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the primitives written by {@link BinaryWriter} from a {@link ByteBuffer}.
+ */
+final class BinaryReader {
+
+    private final ByteBuffer buffer;
+
+    BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    int readByte() {
+        return get() & 0xFF;
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte current = get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new MappingException("The binary value has a malformed varint");
+    }
+
+    long readZigZag() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readFixed32() {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException exception) {
+            throw truncated(exception);
+        }
+    }
+
+    long readFixed64() {
+        try {
+            return buffer.getLong();
+        } catch (BufferUnderflowException exception) {
+            throw truncated(exception);
+        }
+    }
+
+    String readString() {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    byte[] readBytes() {
+        byte[] value = new byte[length()];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Reads a length-prefixed block as a reader of its own, and skips it in this reader.
+     */
+    BinaryReader readBlock() {
+        int length = length();
+        ByteBuffer block = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return new BinaryReader(block);
+    }
+
+    private int length() {
+        long length = readVarint();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new MappingException("The binary value is truncated, expected " + length + " bytes but there are "
+                    + buffer.remaining());
+        }
+        return (int) length;
+    }
+
+    private byte get() {
+        try {
+            return buffer.get();
+        } catch (BufferUnderflowException exception) {
+            throw truncated(exception);
+        }
+    }
+
+    private static MappingException truncated(BufferUnderflowException exception) {
+        return new MappingException("The binary value is truncated", exception);
+    }
+}
@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.keyvalue;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -31,6 +33,20 @@ class DefaultKeyValueEntityConverter extends KeyValueEntityConverter  {
     @Inject
     private Converters converters;
 
+    @Inject
+    private Instance<KeyValueCodec> codecs;
+
+    private KeyValueCodec codec;
+
+    /**
+     * Resolves the codec once: the {@link KeyValueCodec} bean when there is one, or the entity itself as the value.
+     * More than one codec bean fails with the {@link jakarta.enterprise.inject.AmbiguousResolutionException}.
+     */
+    @PostConstruct
+    void init() {
+        this.codec = codecs.isUnsatisfied() ? super.getCodec() : codecs.get();
+    }
+
     @Override
     protected EntitiesMetadata getEntities() {
         return entities;
@@ -41,4 +57,9 @@ class DefaultKeyValueEntityConverter extends KeyValueEntityConverter  {
         return converters;
     }
 
+    @Override
+    protected KeyValueCodec getCodec() {
+        return codec;
+    }
+
 }
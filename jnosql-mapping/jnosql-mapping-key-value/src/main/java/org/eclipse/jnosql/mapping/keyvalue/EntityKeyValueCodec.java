@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.Objects;
+
+/**
+ * The default {@link KeyValueCodec}, it stores the entity itself and leaves the serialization to the driver.
+ */
+enum EntityKeyValueCodec implements KeyValueCodec {
+
+    INSTANCE;
+
+    @Override
+    public Object encode(Object entity) {
+        return Objects.requireNonNull(entity, "entity is required");
+    }
+
+    @Override
+    public <T> T decode(Class<T> type, Value value) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(value, "value is required");
+        return value.get(type);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+/**
+ * Encodes the entities into the values stored by the {@link org.eclipse.jnosql.communication.keyvalue.BucketManager}
+ * and decodes them back. {@link KeyValueEntityConverter} uses it for the value, the key is converted apart.
+ * By default, the entity itself is the value, so each driver picks its own serialization. To use another codec,
+ * such as {@link BinaryKeyValueCodec}, produce it as a CDI bean:
+ * <pre>{@code
+ * @Produces
+ * @ApplicationScoped
+ * KeyValueCodec codec(EntitiesMetadata entities, Converters converters) {
+ *     return new BinaryKeyValueCodec(entities, converters, Map.of(Person.class, List.of("_id", "name", "age")));
+ * }
+ * }</pre>
+ */
+public interface KeyValueCodec {
+
+    /**
+     * Encodes the entity into the value to be stored.
+     *
+     * @param entity the entity
+     * @return the value to be stored
+     * @throws NullPointerException when the entity is null
+     */
+    Object encode(Object entity);
+
+    /**
+     * Decodes the stored value into an entity.
+     *
+     * @param type  the entity type
+     * @param value the stored value
+     * @param <T>   the entity type
+     * @return the entity, or null when the value is empty
+     * @throws NullPointerException when either type or value is null
+     */
+    <T> T decode(Class<T> type, Value value);
+}
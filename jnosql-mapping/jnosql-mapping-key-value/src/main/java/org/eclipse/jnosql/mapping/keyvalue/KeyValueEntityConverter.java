@@ -36,6 +36,15 @@ public abstract class KeyValueEntityConverter {
 
     protected abstract Converters getConverters();
 
+    /**
+     * Returns the codec of the values, by default the entity itself is the value.
+     *
+     * @return the {@link KeyValueCodec}
+     */
+    protected KeyValueCodec getCodec() {
+        return EntityKeyValueCodec.INSTANCE;
+    }
+
     /**
      * Converts the instance entity to {@link KeyValueEntity}
      *
@@ -51,7 +60,7 @@ public abstract class KeyValueEntityConverter {
         Object value = key.read(entity);
 
         requireNonNull(value, String.format("The key field %s is required", key.name()));
-        return KeyValueEntity.of(getKey(value, type, false), entity);
+        return KeyValueEntity.of(getKey(value, type, false), getCodec().encode(entity));
     }
 
     /**
@@ -66,7 +75,11 @@ public abstract class KeyValueEntityConverter {
     public <T> T toEntity(Class<T> type, KeyValueEntity entity) {
         requireNonNull(type, "type is required");
         requireNonNull(entity, "entity is required");
-        T bean = entity.value(type);
+        Object value = entity.value();
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        T bean = getCodec().decode(type, Value.of(value));
         if (Objects.isNull(bean)) {
             return null;
         }
@@ -77,6 +90,27 @@ public abstract class KeyValueEntityConverter {
         return bean;
     }
 
+    /**
+     * Decodes a value read without its key, so the id of the entity is the one stored in the value.
+     */
+    <T> T decode(Class<T> type, Value value) {
+        if (Objects.isNull(value) || value.isNull()) {
+            return null;
+        }
+        return getCodec().decode(type, value);
+    }
+
+    /**
+     * Returns the key as the value of the id field of the entity type, so it can be compared with {@link #id}.
+     */
+    Object toId(Class<?> type, Object key) {
+        return getKey(key, type, true);
+    }
+
+    Object id(Class<?> type, Object entity) {
+        return getId(type).read(entity);
+    }
+
     private <T> Object getKey(Object key, Class<T> type, boolean toEntity) {
         FieldMetadata id = getId(type);
         if (id.converter().isPresent()) {
@@ -0,0 +1,533 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
+import static org.eclipse.jnosql.communication.Configurations.KEY_VALUE_WRITE_BEHIND_QUEUE;
+import static org.eclipse.jnosql.communication.Configurations.KEY_VALUE_WRITE_BEHIND_WINDOW;
+
+/**
+ * A {@link BucketManager} that keeps the puts in memory and writes them to the decorated manager from a background
+ * virtual thread. The puts to the same key within the window are coalesced, so only the last value is written, and
+ * the pending puts are written in batches through {@link BucketManager#put(Iterable)} or
+ * {@link BucketManager#put(Iterable, Duration)}.
+ * <p>
+ * The gets read the pending puts first, so a caller reads its own writes, and a delete drops the pending put of the
+ * key, keeping the order of the keys on a multi-get. When the queue is full, a put to a new key waits for the pending
+ * puts to be written. A byte array or a buffer is copied at put time; any other value is kept as it is, so it must
+ * not be changed after the put, otherwise the change may or may not be written.
+ * </p>
+ * <p>
+ * The puts of a failed batch that were not written go back to the pending puts, unless the key was put again, and
+ * the background thread retries them after a backoff that doubles from the window up to
+ * {@link #MAX_BACKOFF}. The failures are logged and counted at {@link #stats()}. {@link #flush()} writes the pending
+ * puts in the calling thread and throws the error of the decorated manager, and {@link #close()} writes them before
+ * closing the decorated manager, so the puts that could not be written are reported to the caller.
+ * </p>
+ * <p>
+ * The write-behind is opt-in: wrap the manager before creating the template.
+ * </p>
+ * <pre>{@code
+ * KeyValueTemplate template = producer.apply(WriteBehindBucketManager.of(manager));
+ * }</pre>
+ * <p>
+ * A put that is acknowledged is not durable until it is written, so use it for data, such as counters and
+ * sessions, that tolerates losing the last window on a crash.
+ * </p>
+ */
+public final class WriteBehindBucketManager implements BucketManager {
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindBucketManager.class.getName());
+
+    /**
+     * The default time the puts are kept before they are written,
+     * see {@link org.eclipse.jnosql.communication.Configurations#KEY_VALUE_WRITE_BEHIND_WINDOW}.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(100);
+
+    /**
+     * The default maximum number of keys waiting to be written,
+     * see {@link org.eclipse.jnosql.communication.Configurations#KEY_VALUE_WRITE_BEHIND_QUEUE}.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+    /**
+     * The longest time the background thread waits before retrying a failed batch.
+     */
+    public static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final BucketManager manager;
+
+    private final long windowNanos;
+
+    private final int queueSize;
+
+    private final int batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition requested = lock.newCondition();
+
+    private final Condition drained = lock.newCondition();
+
+    private final LongAdder puts = new LongAdder();
+
+    private final LongAdder writes = new LongAdder();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder flushNanos = new LongAdder();
+
+    private Map<Object, Pending> pending = new LinkedHashMap<>();
+
+    private Map<Object, Pending> inFlight = Map.of();
+
+    private boolean closed;
+
+    private WriteBehindBucketManager(BucketManager manager, Duration window, int queueSize, int batchSize) {
+        this.manager = manager;
+        this.windowNanos = window.toNanos();
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+        Thread.ofVirtual().name("jnosql-write-behind-" + manager.name()).start(this::run);
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        put(KeyValueEntity.of(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        enqueue(new Pending(snapshot(entity), null));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        enqueue(new Pending(snapshot(entity), ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        entities.forEach(entity -> put(entity, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        requireNonNull(key, "key is required");
+        Optional<Value> written = written(key);
+        return written.isPresent() ? written : manager.get(key);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        List<K> keyList = new ArrayList<>();
+        keys.forEach(keyList::add);
+        Value[] written = new Value[keyList.size()];
+        List<K> unwritten = new ArrayList<>(keyList.size());
+        lock.lock();
+        try {
+            for (int index = 0; index < keyList.size(); index++) {
+                Pending put = pendingPut(keyList.get(index));
+                if (put == null) {
+                    unwritten.add(keyList.get(index));
+                } else {
+                    written[index] = Value.of(put.entity().value());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (unwritten.size() == keyList.size()) {
+            return manager.get(keyList);
+        }
+        Iterator<Value> stored = stored(unwritten).iterator();
+        List<Value> result = new ArrayList<>(keyList.size());
+        for (Value value : written) {
+            Value next = value == null ? stored.next() : value;
+            if (next != null) {
+                result.add(next);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        requireNonNull(key, "key is required");
+        discard(List.of(key));
+        manager.delete(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        List<K> keyList = new ArrayList<>();
+        keys.forEach(keyList::add);
+        discard(keyList);
+        manager.delete(keyList);
+    }
+
+    /**
+     * Writes the pending puts in the calling thread, after the batch being written by the background thread, if any.
+     *
+     * @throws RuntimeException the error of the decorated manager when the batch fails
+     */
+    public void flush() {
+        Map<Object, Pending> batch = take();
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the counters, such as the coalescing ratio and the flush latency.
+     *
+     * @return the stats
+     */
+    public WriteBehindStats stats() {
+        return new WriteBehindStats(puts.sum(), writes.sum(), flushes.sum(), failures.sum(),
+                Duration.ofNanos(flushNanos.sum()));
+    }
+
+    /**
+     * Writes the pending puts and closes the decorated manager. The puts after closing are rejected.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            requested.signalAll();
+            drained.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flush();
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindBucketManager{" +
+                "manager=" + manager +
+                ", stats=" + stats() +
+                '}';
+    }
+
+    /**
+     * Creates the write-behind manager with the window at
+     * {@link org.eclipse.jnosql.communication.Configurations#KEY_VALUE_WRITE_BEHIND_WINDOW}, the queue size at
+     * {@link org.eclipse.jnosql.communication.Configurations#KEY_VALUE_WRITE_BEHIND_QUEUE} and the batch size at
+     * {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}.
+     *
+     * @param manager the manager that writes the puts
+     * @return the write-behind manager
+     * @throws NullPointerException when manager is null
+     */
+    public static WriteBehindBucketManager of(BucketManager manager) {
+        long window = MicroProfileSettings.INSTANCE.get(KEY_VALUE_WRITE_BEHIND_WINDOW, Long.class)
+                .filter(millis -> millis > 0).orElse(DEFAULT_WINDOW.toMillis());
+        int queueSize = MicroProfileSettings.INSTANCE.get(KEY_VALUE_WRITE_BEHIND_QUEUE, Integer.class)
+                .filter(size -> size > 0).orElse(DEFAULT_QUEUE_SIZE);
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0).orElse(DEFAULT_BATCH_SIZE);
+        return of(manager, Duration.ofMillis(window), queueSize, batchSize);
+    }
+
+    /**
+     * Creates the write-behind manager.
+     *
+     * @param manager   the manager that writes the puts
+     * @param window    how long the puts are kept before they are written
+     * @param queueSize the maximum number of keys waiting to be written
+     * @param batchSize the maximum number of entities written on each call of the manager
+     * @return the write-behind manager
+     * @throws NullPointerException     when manager or window is null
+     * @throws IllegalArgumentException when window, queueSize or batchSize is not positive
+     */
+    public static WriteBehindBucketManager of(BucketManager manager, Duration window, int queueSize, int batchSize) {
+        requireNonNull(manager, "manager is required");
+        requireNonNull(window, "window is required");
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("The window must be positive: " + window);
+        }
+        if (queueSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("The queue size and the batch size must be positive, queue size: "
+                    + queueSize + ", batch size: " + batchSize);
+        }
+        return new WriteBehindBucketManager(manager, window, queueSize, batchSize);
+    }
+
+    private void enqueue(Pending put) {
+        Object key = put.entity().key();
+        lock.lock();
+        try {
+            checkOpen();
+            while (pending.size() >= queueSize && !pending.containsKey(key)) {
+                requested.signal();
+                drained.await();
+                checkOpen();
+            }
+            pending.put(key, put);
+            puts.increment();
+            if (pending.size() == 1 || pending.size() >= batchSize) {
+                requested.signal();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The put was interrupted while the queue was full", exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <K> Optional<Value> written(K key) {
+        lock.lock();
+        try {
+            Pending put = pendingPut(key);
+            return put == null ? Optional.empty() : Optional.of(Value.of(put.entity().value()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <K> Pending pendingPut(K key) {
+        Object id = key instanceof Value value ? value.get() : key;
+        Pending put = pending.get(id);
+        return put == null ? inFlight.get(id) : put;
+    }
+
+    private <K> void discard(List<K> keys) {
+        lock.lock();
+        try {
+            for (K key : keys) {
+                Object id = key instanceof Value value ? value.get() : key;
+                pending.remove(id);
+                while (inFlight.containsKey(id)) {
+                    drained.await();
+                }
+            }
+            drained.signalAll();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The delete was interrupted while the key was written", exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Object, Pending> take() {
+        lock.lock();
+        try {
+            while (!inFlight.isEmpty()) {
+                drained.await();
+            }
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<Object, Pending> batch = pending;
+            pending = new LinkedHashMap<>();
+            inFlight = batch;
+            drained.signalAll();
+            return batch;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The flush was interrupted", exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Map<Object, Pending> batch) {
+        long start = System.nanoTime();
+        Map<Duration, List<Pending>> groups = new LinkedHashMap<>();
+        for (Pending put : batch.values()) {
+            groups.computeIfAbsent(put.ttl(), ttl -> new ArrayList<>()).add(put);
+        }
+        List<List<Pending>> chunks = new ArrayList<>();
+        for (List<Pending> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += batchSize) {
+                chunks.add(group.subList(from, Math.min(from + batchSize, group.size())));
+            }
+        }
+        int written = 0;
+        try {
+            for (List<Pending> chunk : chunks) {
+                List<KeyValueEntity> entities = chunk.stream().map(Pending::entity).toList();
+                Duration ttl = chunk.get(0).ttl();
+                if (ttl == null) {
+                    manager.put(entities);
+                } else {
+                    manager.put(entities, ttl);
+                }
+                flushes.increment();
+                writes.add(entities.size());
+                written++;
+            }
+        } catch (RuntimeException exception) {
+            failures.increment();
+            throw exception;
+        } finally {
+            flushNanos.add(System.nanoTime() - start);
+            lock.lock();
+            try {
+                for (List<Pending> chunk : chunks.subList(written, chunks.size())) {
+                    for (Pending put : chunk) {
+                        pending.putIfAbsent(put.entity().key(), put);
+                    }
+                }
+                inFlight = Map.of();
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void run() {
+        int failed = 0;
+        while (awaitBatch(failed)) {
+            try {
+                flush();
+                failed = 0;
+            } catch (RuntimeException exception) {
+                failed++;
+                LOGGER.log(Level.SEVERE, "Error while writing the pending puts of the bucket " + manager.name()
+                        + ", retrying them after " + Duration.ofNanos(backoff(failed)), exception);
+            }
+        }
+    }
+
+    private long backoff(int failed) {
+        long backoff = windowNanos << Math.min(failed - 1, 20);
+        return backoff <= 0 ? MAX_BACKOFF.toNanos() : Math.min(backoff, MAX_BACKOFF.toNanos());
+    }
+
+    private boolean awaitBatch(int failed) {
+        lock.lock();
+        try {
+            if (failed > 0) {
+                long left = backoff(failed);
+                while (!closed && left > 0) {
+                    left = requested.awaitNanos(left);
+                }
+            }
+            while (!closed && pending.isEmpty()) {
+                requested.await();
+            }
+            if (!closed && pending.size() < batchSize) {
+                requested.awaitNanos(windowNanos);
+            }
+            return !closed;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The write-behind bucket manager " + manager.name() + " is closed");
+        }
+    }
+
+    /**
+     * Reads the keys that have no pending put, one value or null for each key. The decorated manager skips the
+     * missing keys on a multi-get, so when it returns fewer values than keys, the keys are read one by one to know
+     * which are missing.
+     */
+    private <K> List<Value> stored(List<K> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Value> values = new ArrayList<>(keys.size());
+        Iterable<Value> found = manager.get(keys);
+        if (found != null) {
+            found.forEach(values::add);
+        }
+        if (values.size() == keys.size()) {
+            return values;
+        }
+        values.clear();
+        for (K key : keys) {
+            values.add(manager.get(key).orElse(null));
+        }
+        return values;
+    }
+
+    private static KeyValueEntity snapshot(KeyValueEntity entity) {
+        Object value = entity.value();
+        if (value instanceof byte[] bytes) {
+            return KeyValueEntity.of(entity.key(), bytes.clone());
+        }
+        if (value instanceof ByteBuffer buffer) {
+            ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+            copy.put(buffer.duplicate()).flip();
+            return KeyValueEntity.of(entity.key(), copy);
+        }
+        return entity;
+    }
+
+    private record Pending(KeyValueEntity entity, Duration ttl) {
+    }
+}
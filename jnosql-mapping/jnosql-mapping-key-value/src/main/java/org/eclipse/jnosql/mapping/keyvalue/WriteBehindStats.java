@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the {@link WriteBehindBucketManager} counters.
+ *
+ * @param puts      the number of puts received
+ * @param writes    the number of entities written to the bucket after the coalescing
+ * @param flushes   the number of batches written to the bucket
+ * @param failures  the number of batches that failed to be written
+ * @param flushTime the time spent writing the batches
+ */
+public record WriteBehindStats(long puts, long writes, long flushes, long failures, Duration flushTime) {
+
+    /**
+     * Returns the ratio of puts that were coalesced into a later put of the same key, or zero when there was
+     * no write.
+     *
+     * @return the coalescing ratio between 0 and 1
+     */
+    public double coalescingRatio() {
+        long received = puts;
+        return received == 0 || writes >= received ? 0D : 1D - (double) writes / received;
+    }
+
+    /**
+     * Returns the average time to write a batch, or {@link Duration#ZERO} when there was no flush.
+     *
+     * @return the average flush latency
+     */
+    public Duration averageFlushTime() {
+        return flushes == 0 ? Duration.ZERO : flushTime.dividedBy(flushes);
+    }
+}
@@ -18,8 +18,18 @@ package org.eclipse.jnosql.mapping.keyvalue.query;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
- * The template method to key-value repository
+ * The template method to key-value repository.
+ * <p>
+ * The operations by a set of keys use the bulk operations of {@link KeyValueTemplate}, and {@link #saveAll(List)}
+ * puts every entity in one call, since a put is always an upsert.
+ * </p>
  */
 public abstract class AbstractKeyValueRepository<T, K> extends AbstractRepository<T, K> {
 
@@ -31,4 +41,21 @@ public abstract class AbstractKeyValueRepository<T, K> extends AbstractRepositor
         return "The key-value type does not support %s method";
     }
 
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        return StreamSupport.stream(template().get(ids, type()).spliterator(), false);
+    }
+
+    @Override
+    public void deleteByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        template().delete(ids);
+    }
+
+    @Override
+    protected Set<Object> existingIds(List<Object> ids) {
+        return Set.of();
+    }
+
 }
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Job;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Money;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Person;
+import org.eclipse.jnosql.mapping.keyvalue.entities.User;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Worker;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, KeyValueExtension.class})
+class BinaryKeyValueCodecTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private KeyValueEventPersistManager eventManager;
+
+    private BinaryKeyValueCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        this.codec = new BinaryKeyValueCodec(entities, converters);
+    }
+
+    @Test
+    void shouldEncodeAndDecodeEntity() {
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(36)
+                .withPhones(List.of("123", "456")).build();
+
+        byte[] value = codec.encode(person);
+        Person decoded = codec.decode(Person.class, Value.of(value));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value[0]).isEqualTo((byte) BinaryKeyValueCodec.FORMAT);
+            soft.assertThat(new String(value, StandardCharsets.UTF_8)).doesNotContain("name", "phones");
+            soft.assertThat(decoded).isEqualTo(person);
+            soft.assertThat(decoded.getAge()).isEqualTo(36);
+        });
+    }
+
+    @Test
+    void shouldEncodeEmbeddedAndConvertedFields() {
+        Job job = new Job();
+        job.setDescription("Developer");
+        job.setCity("Lisbon");
+        Worker worker = new Worker();
+        worker.setName("Grace");
+        worker.setJob(job);
+        worker.setSalary(new Money("USD", BigDecimal.TEN));
+
+        Worker decoded = codec.decode(Worker.class, Value.of(ByteBuffer.wrap(codec.encode(worker))));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.getName()).isEqualTo("Grace");
+            soft.assertThat(decoded.getJob()).isEqualTo(job);
+            soft.assertThat(decoded.getSalary()).isEqualTo(new Money("USD", BigDecimal.TEN));
+        });
+    }
+
+    @Test
+    void shouldSkipUnknownAndKeepMissingFields() {
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(36).withPhones(List.of("123")).build();
+        User user = new User("ada", "Ada", 36);
+
+        User fromPerson = codec.decode(User.class, Value.of(codec.encode(person)));
+        Person fromUser = codec.decode(Person.class, Value.of(codec.encode(new User("10", "Ada", 36))));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fromPerson.getNickname()).isEqualTo("10");
+            soft.assertThat(fromPerson.getName()).isNull();
+            soft.assertThat(fromUser.getId()).isEqualTo(10L);
+            soft.assertThat(fromUser.getName()).isNull();
+            soft.assertThat(fromUser.getPhones()).isNull();
+            soft.assertThat(codec.decode(User.class, Value.of(codec.encode(user)))).isEqualTo(user);
+        });
+    }
+
+    @Test
+    void shouldWriteTableTagsInOneByte() {
+        var tables = new BinaryKeyValueCodec(entities, converters,
+                Map.of(Person.class, List.of("_id", "name", "age", "phones")));
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(36).withPhones(List.of("123")).build();
+
+        byte[] hashed = codec.encode(person);
+        byte[] tabled = tables.encode(person);
+
+        SoftAssertions.assertSoftly(soft -> {
+            // the hash tags of _id, name, age and phones take 3, 4, 3 and 5 bytes
+            soft.assertThat(hashed.length - tabled.length).isEqualTo(11);
+            soft.assertThat(tables.decode(Person.class, Value.of(tabled))).isEqualTo(person);
+            soft.assertThat(tables.decode(Person.class, Value.of(hashed))).isEqualTo(person);
+        });
+    }
+
+    @Test
+    void shouldKeepTagsWhenTableGrows() {
+        var previous = new BinaryKeyValueCodec(entities, converters, Map.of(Person.class, List.of("_id", "removed",
+                "name")));
+        var current = new BinaryKeyValueCodec(entities, converters, Map.of(Person.class, List.of("_id", "removed",
+                "name", "age")));
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(36).build();
+
+        Person decoded = current.decode(Person.class, Value.of(previous.encode(person)));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.getId()).isEqualTo(10L);
+            soft.assertThat(decoded.getName()).isEqualTo("Ada");
+            soft.assertThat(decoded.getAge()).isEqualTo(36);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTableRepeatsColumn() {
+        assertThatThrownBy(() -> new BinaryKeyValueCodec(entities, converters,
+                Map.of(Person.class, List.of("name", "name"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPutAndGetThroughTemplate() {
+        var bucket = new InMemoryBucketManager();
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(bucket);
+        var template = new DefaultKeyValueTemplate(converter(), instance, eventManager);
+        User ada = new User("ada", "Ada", 36);
+        User grace = new User("grace", "Grace", 85);
+
+        template.put(List.of(ada, grace));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(bucket.values.get("ada")).isInstanceOf(byte[].class);
+            soft.assertThat(template.get("ada", User.class)).contains(ada);
+            soft.assertThat(template.get(List.of("grace", "missing", "ada"), User.class))
+                    .containsExactly(grace, ada);
+        });
+        template.delete("ada");
+        assertThat(template.get("ada", User.class)).isEmpty();
+    }
+
+    @Test
+    void shouldDecodeValueThatIsNotBinary() {
+        User user = new User("ada", "Ada", 36);
+
+        assertThat(codec.decode(User.class, Value.of(user))).isSameAs(user);
+    }
+
+    @Test
+    void shouldReturnErrorWhenFormatIsUnknown() {
+        assertThatThrownBy(() -> codec.decode(User.class, Value.of(new byte[]{9, 1})))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValueIsTruncated() {
+        byte[] value = codec.encode(Person.builder().withId(10L).withName("Ada").build());
+        byte[] truncated = Arrays.copyOf(value, value.length - 1);
+
+        assertThatThrownBy(() -> codec.decode(Person.class, Value.of(truncated)))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldConvertKeyValueWithCodec() {
+        var converter = converter();
+        User user = new User("ada", "Ada", 36);
+
+        KeyValueEntity entity = converter.toKeyValue(user);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.key()).isEqualTo("ada");
+            soft.assertThat(entity.value()).isInstanceOf(byte[].class);
+            soft.assertThat(converter.toEntity(User.class, entity)).isEqualTo(user);
+        });
+    }
+
+    private KeyValueEntityConverter converter() {
+        return new KeyValueEntityConverter() {
+            @Override
+            protected EntitiesMetadata getEntities() {
+                return entities;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected KeyValueCodec getCodec() {
+                return codec;
+            }
+        };
+    }
+
+    @Vetoed
+    private static final class InMemoryBucketManager implements BucketManager {
+
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        public String name() {
+            return "memory";
+        }
+
+        @Override
+        public <K, V> void put(K key, V value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void put(KeyValueEntity entity) {
+            values.put(entity.key(), entity.value());
+        }
+
+        @Override
+        public void put(KeyValueEntity entity, Duration ttl) {
+            put(entity);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities) {
+            entities.forEach(this::put);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+            put(entities);
+        }
+
+        @Override
+        public <K> Optional<Value> get(K key) {
+            return Optional.ofNullable(values.get(key)).map(Value::of);
+        }
+
+        @Override
+        public <K> Iterable<Value> get(Iterable<K> keys) {
+            List<Value> result = new ArrayList<>();
+            keys.forEach(key -> get(key).ifPresent(result::add));
+            return result;
+        }
+
+        @Override
+        public <K> void delete(K key) {
+            values.remove(key);
+        }
+
+        @Override
+        public <K> void delete(Iterable<K> keys) {
+            keys.forEach(values::remove);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
@@ -40,11 +42,13 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -229,18 +233,18 @@ class DefaultKeyValueTemplateTest {
     void shouldGetIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.get(singletonList(KEY))).thenReturn(singletonList(Value.of(user)));
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .toList();
 
         assertFalse(userOptional.isEmpty());
         assertEquals(user, userOptional.getFirst());
+        Mockito.verify(manager, Mockito.never()).get(KEY);
     }
 
     @Test
     void shouldReturnEmptyIterable() {
-        User user = new User(KEY, "otavio", 27);
-
+        when(manager.get(singletonList(KEY))).thenReturn(List.of());
         when(manager.get(KEY)).thenReturn(Optional.empty());
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .toList();
@@ -248,6 +252,96 @@ class DefaultKeyValueTemplateTest {
         assertTrue(userOptional.isEmpty());
     }
 
+    @Test
+    void shouldKeepKeysWhenManagerSkipsMissingValues() {
+        User ada = new User("ada", "Ada", 36);
+        when(manager.get(List.of("ada", "missing"))).thenReturn(List.of(Value.of(ada)));
+
+        List<User> users = stream(template.get(List.of("ada", "missing"), User.class).spliterator(), false)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(users).hasSize(1);
+            soft.assertThat(users.getFirst().getNickname()).isEqualTo("ada");
+        });
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
+    @Test
+    void shouldMatchValuesReturnedOutOfOrder() {
+        User ada = new User("ada", "Ada", 36);
+        User grace = new User("grace", "Grace", 85);
+        User linus = new User("linus", "Linus", 54);
+        when(manager.get(List.of("ada", "grace", "linus")))
+                .thenReturn(List.of(Value.of(linus), Value.of(ada), Value.of(grace)));
+
+        List<User> users = stream(template.get(List.of("ada", "grace", "linus"), User.class).spliterator(), false)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(users).extracting(User::getNickname).containsExactly("ada", "grace", "linus");
+            soft.assertThat(users).extracting(User::getName).containsExactly("Ada", "Grace", "Linus");
+        });
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
+    @Test
+    void shouldReadUnmatchedKeysOneByOne() {
+        User ada = new User("ada", "Ada", 36);
+        User unknown = new User(null, "Unknown", 10);
+        when(manager.get(List.of("ada", "grace"))).thenReturn(List.of(Value.of(unknown), Value.of(ada)));
+        when(manager.get("grace")).thenReturn(Optional.of(Value.of(new User("grace", "Grace", 85))));
+
+        List<User> users = stream(template.get(List.of("ada", "grace"), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).extracting(User::getNickname).containsExactly("ada", "grace");
+        Mockito.verify(manager, Mockito.never()).get("ada");
+        Mockito.verify(manager).get("grace");
+    }
+
+    @Test
+    void shouldGetIterableInChunks() {
+        System.setProperty(Configurations.BATCH_SIZE.get(), "2");
+        try {
+            when(manager.get(Mockito.<Iterable<String>>any())).thenAnswer(invocation -> {
+                List<Value> values = new ArrayList<>();
+                Iterable<String> keys = invocation.getArgument(0);
+                keys.forEach(key -> values.add(Value.of(new User(key, key, 20))));
+                return values;
+            });
+
+            List<User> users = stream(template.get(List.of("a", "b", "c", "d", "e"), User.class).spliterator(), false)
+                    .toList();
+
+            assertThat(users).extracting(User::getNickname).containsExactly("a", "b", "c", "d", "e");
+            Mockito.verify(manager, Mockito.times(3)).get(Mockito.<Iterable<String>>any());
+        } finally {
+            System.clearProperty(Configurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldGetIterableChunksConcurrently() {
+        System.setProperty(Configurations.BATCH_SIZE.get(), "1");
+        System.setProperty(Configurations.KEY_VALUE_GET_PARALLELISM.get(), "3");
+        try {
+            when(manager.get(Mockito.<Iterable<String>>any())).thenAnswer(invocation -> {
+                Iterable<String> keys = invocation.getArgument(0);
+                String key = keys.iterator().next();
+                return List.of(Value.of(new User(key, key, 20)));
+            });
+
+            List<User> users = stream(template.get(List.of("a", "b", "c", "d"), User.class).spliterator(), false)
+                    .toList();
+
+            assertThat(users).extracting(User::getNickname).containsExactly("a", "b", "c", "d");
+        } finally {
+            System.clearProperty(Configurations.BATCH_SIZE.get());
+            System.clearProperty(Configurations.KEY_VALUE_GET_PARALLELISM.get());
+        }
+    }
+
     @Test
     void shouldRemove() {
         template.delete(KEY);
@@ -0,0 +1,278 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindBucketManagerTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    private BucketManager manager;
+
+    private WriteBehindBucketManager writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        when(manager.name()).thenReturn("bucket");
+        this.writeBehind = WriteBehindBucketManager.of(manager, LONG_WINDOW, 100, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.close();
+    }
+
+    @Test
+    void shouldCoalescePutsOfTheSameKey() {
+        writeBehind.put("counter", 1);
+        writeBehind.put("counter", 2);
+        writeBehind.put("counter", 3);
+        writeBehind.put("session", "blob");
+        verify(manager, never()).put(anyIterable());
+
+        writeBehind.flush();
+
+        ArgumentCaptor<Iterable<KeyValueEntity>> captor = ArgumentCaptor.captor();
+        verify(manager).put(captor.capture());
+        WriteBehindStats stats = writeBehind.stats();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue()).containsExactly(KeyValueEntity.of("counter", 3),
+                    KeyValueEntity.of("session", "blob"));
+            soft.assertThat(stats.puts()).isEqualTo(4L);
+            soft.assertThat(stats.writes()).isEqualTo(2L);
+            soft.assertThat(stats.flushes()).isEqualTo(1L);
+            soft.assertThat(stats.coalescingRatio()).isEqualTo(0.5D);
+        });
+    }
+
+    @Test
+    void shouldReadYourWrites() {
+        writeBehind.put("counter", 10);
+
+        Optional<Value> value = writeBehind.get("counter");
+
+        assertThat(value).map(v -> v.get(Integer.class)).contains(10);
+        verify(manager, never()).get(any(String.class));
+    }
+
+    @Test
+    void shouldReadPendingPutsOnMultiGet() {
+        writeBehind.put("counter", 10);
+        when(manager.get(List.of("first", "last"))).thenReturn(List.of(Value.of(1), Value.of(20)));
+
+        Iterable<Value> values = writeBehind.get(List.of("first", "counter", "last"));
+
+        assertThat(values).extracting(v -> v.get(Integer.class)).containsExactly(1, 10, 20);
+        verify(manager, never()).get(any(String.class));
+    }
+
+    @Test
+    void shouldKeepTheKeyOrderWhenKeysAreMissing() {
+        writeBehind.put("counter", 10);
+        when(manager.get(List.of("other", "missing"))).thenReturn(List.of(Value.of(20)));
+        when(manager.get("other")).thenReturn(Optional.of(Value.of(20)));
+        when(manager.get("missing")).thenReturn(Optional.empty());
+
+        Iterable<Value> values = writeBehind.get(List.of("missing", "other", "counter"));
+
+        assertThat(values).extracting(v -> v.get(Integer.class)).containsExactly(20, 10);
+    }
+
+    @Test
+    void shouldCopyTheBytesAtPutTime() {
+        byte[] bytes = {1, 2, 3};
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{4, 5});
+        List<String> phones = new ArrayList<>(List.of("123"));
+        writeBehind.put("bytes", bytes);
+        writeBehind.put("buffer", buffer);
+        writeBehind.put("phones", phones);
+        bytes[0] = 9;
+        buffer.put(0, (byte) 9);
+
+        writeBehind.flush();
+
+        ArgumentCaptor<Iterable<KeyValueEntity>> captor = ArgumentCaptor.captor();
+        verify(manager).put(captor.capture());
+        assertThat(captor.getValue()).extracting(KeyValueEntity::value)
+                .containsExactly(new byte[]{1, 2, 3}, ByteBuffer.wrap(new byte[]{4, 5}), phones);
+        assertThat(captor.getValue()).extracting(KeyValueEntity::value).element(2).isSameAs(phones);
+    }
+
+    @Test
+    void shouldReadFromTheManagerWhenThereIsNoPendingPut() {
+        when(manager.get("counter")).thenReturn(Optional.of(Value.of(1)));
+
+        assertThat(writeBehind.get("counter")).isPresent();
+        verify(manager).get("counter");
+    }
+
+    @Test
+    void shouldWriteEachTtlOnItsOwnBatch() {
+        Duration ttl = Duration.ofSeconds(30);
+        writeBehind.put(KeyValueEntity.of("session", "blob"), ttl);
+        writeBehind.put(KeyValueEntity.of("counter", 1));
+
+        writeBehind.flush();
+
+        verify(manager).put(List.of(KeyValueEntity.of("session", "blob")), ttl);
+        verify(manager).put(List.of(KeyValueEntity.of("counter", 1)));
+    }
+
+    @Test
+    void shouldSplitTheFlushIntoBatches() {
+        for (int index = 0; index < 25; index++) {
+            writeBehind.put("key-" + index, index);
+        }
+
+        writeBehind.flush();
+
+        ArgumentCaptor<Iterable<KeyValueEntity>> captor = ArgumentCaptor.captor();
+        verify(manager, Mockito.atLeast(3)).put(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getAllValues()).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(10));
+            soft.assertThat(writeBehind.stats().writes()).isEqualTo(25L);
+        });
+    }
+
+    @Test
+    void shouldDropPendingPutOnDelete() {
+        writeBehind.put("counter", 1);
+
+        writeBehind.delete("counter");
+        writeBehind.flush();
+
+        verify(manager).delete("counter");
+        verify(manager, never()).put(anyIterable());
+    }
+
+    @Test
+    void shouldFlushOnClose() {
+        writeBehind.put("counter", 1);
+
+        writeBehind.close();
+
+        verify(manager).put(List.of(KeyValueEntity.of("counter", 1)));
+        verify(manager).close();
+        assertThatThrownBy(() -> writeBehind.put("counter", 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFlushInTheBackgroundAfterTheWindow() {
+        try (var background = WriteBehindBucketManager.of(manager, Duration.ofMillis(10), 100, 10)) {
+            background.put("counter", 1);
+
+            verify(manager, timeout(5_000)).put(List.of(KeyValueEntity.of("counter", 1)));
+        }
+    }
+
+    @Test
+    void shouldWaitForTheFlushWhenTheQueueIsFull() throws Exception {
+        try (var bounded = WriteBehindBucketManager.of(manager, Duration.ofMillis(10), 1, 10)) {
+            bounded.put("first", 1);
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() -> bounded.put("second", 2));
+
+            second.get(5, TimeUnit.SECONDS);
+            bounded.flush();
+
+            verify(manager, timeout(5_000)).put(List.of(KeyValueEntity.of("first", 1)));
+            verify(manager, timeout(5_000)).put(List.of(KeyValueEntity.of("second", 2)));
+        }
+    }
+
+    @Test
+    void shouldCountFailedFlushes() {
+        Mockito.doThrow(new IllegalStateException("unavailable")).when(manager).put(anyIterable());
+        writeBehind.put("counter", 1);
+
+        assertThatThrownBy(writeBehind::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(writeBehind.stats().failures()).isEqualTo(1L);
+        assertThat(writeBehind.get("counter")).map(v -> v.get(Integer.class)).contains(1);
+        Mockito.doNothing().when(manager).put(anyIterable());
+    }
+
+    @Test
+    void shouldRetryFailedBatch() {
+        Mockito.doThrow(new IllegalStateException("unavailable")).doNothing().when(manager).put(anyIterable());
+        writeBehind.put("counter", 1);
+        assertThatThrownBy(writeBehind::flush).isInstanceOf(IllegalStateException.class);
+
+        writeBehind.flush();
+
+        verify(manager, Mockito.times(2)).put(List.of(KeyValueEntity.of("counter", 1)));
+        assertThat(writeBehind.stats().writes()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepNewerPutWhenBatchFails() {
+        Mockito.doThrow(new IllegalStateException("unavailable")).doNothing().when(manager).put(anyIterable());
+        writeBehind.put("counter", 1);
+        assertThatThrownBy(writeBehind::flush).isInstanceOf(IllegalStateException.class);
+        writeBehind.put("counter", 2);
+
+        writeBehind.flush();
+
+        verify(manager).put(List.of(KeyValueEntity.of("counter", 2)));
+    }
+
+    @Test
+    void shouldReportUnwrittenPutsOnClose() {
+        Mockito.doThrow(new IllegalStateException("unavailable")).when(manager).put(anyIterable());
+        var failing = WriteBehindBucketManager.of(manager, LONG_WINDOW, 100, 10);
+        failing.put("counter", 1);
+
+        assertThatThrownBy(failing::close).isInstanceOf(IllegalStateException.class);
+        verify(manager).close();
+        Mockito.doNothing().when(manager).put(anyIterable());
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> WriteBehindBucketManager.of(null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> WriteBehindBucketManager.of(manager, Duration.ZERO, 1, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> WriteBehindBucketManager.of(manager, LONG_WINDOW, 0, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
@@ -92,13 +92,10 @@ class KeyValueRepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-
         User user = new User("ada", "Ada", 10);
         userRepository.saveAll(Collections.singletonList(user));
-        Mockito.verify(template).insert(captor.capture());
-        User value = captor.getValue();
-        assertEquals(user, value);
+        Mockito.verify(template).insert(List.of(user));
+        Mockito.verify(template, Mockito.never()).find(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
@@ -159,9 +156,7 @@ class KeyValueRepositoryProxyTest {
     @Test
     void shouldDeleteIterable() {
         userRepository.deleteByIdIn(Collections.singletonList("key"));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("key", captor.getValue());
+        Mockito.verify(template).delete(List.of("key"));
     }
 
     @Test
@@ -177,9 +172,7 @@ class KeyValueRepositoryProxyTest {
     void shouldDeleteEntities() {
         User user = new User("ada", "Ada", 10);
         userRepository.deleteAll(Collections.singletonList(user));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("ada", captor.getValue());
+        Mockito.verify(template).delete(List.of("ada"));
     }
 
     @Test
@@ -205,10 +198,10 @@ class KeyValueRepositoryProxyTest {
         User user = new User("ada", "Ada", 10);
         User user2 = new User("ada", "Ada", 10);
         List<String> keys = Arrays.asList("key", "key2");
-        when(template.find(User.class, "key")).thenReturn(Optional.of(user));
-        when(template.find(User.class, "key2")).thenReturn(Optional.of(user2));
+        when(template.get(keys, User.class)).thenReturn(List.of(user, user2));
 
         assertThat(userRepository.findByIdIn(keys)).contains(user, user2);
+        Mockito.verify(template, Mockito.never()).find(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
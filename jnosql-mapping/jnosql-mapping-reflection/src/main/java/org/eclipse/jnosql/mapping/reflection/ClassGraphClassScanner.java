@@ -22,15 +22,20 @@ import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Embeddable;
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.Projection;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.microprofile.config.ConfigProvider;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -41,11 +46,18 @@ import static java.util.stream.Collectors.toUnmodifiableSet;
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * <p>When a jar or a directory of the class path has a {@link ClassIndex}, written at build time by the
+ * {@link ClassIndexProcessor}, its classes come from the index and it is left out of the scan. The other roots,
+ * such as the jars built without the processor, are scanned, and both results are merged. The scan covers the
+ * packages defined at {@link Configurations#SCAN_PACKAGES} or, when there is no such configuration, the whole
+ * class path. The time of each phase is logged at the fine level.</p>
  */
 enum ClassGraphClassScanner implements ClassScanner {
 
     INSTANCE;
 
+    private final Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
+
     private final Set<Class<?>> entities;
     private final Set<Class<?>> repositories;
     private final Set<Class<?>> embeddables;
@@ -60,21 +72,17 @@ enum ClassGraphClassScanner implements ClassScanner {
         customRepositories = new HashSet<>();
         projections = new HashSet<>();
 
-        Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
+        long start = System.nanoTime();
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
-            var notSupportedRepositories = loadNotSupportedRepositories(result);
-            logger.info("The following repositories are not supported: " + notSupportedRepositories);
-            this.entities.addAll(loadEntities(result));
-            this.embeddables.addAll(loadEmbeddable(result));
-            this.repositories.addAll(loadRepositories(result));
-            this.customRepositories.addAll(loadCustomRepositories(result));
-            this.projections.addAll(loadProjection(result));
-            notSupportedRepositories.forEach(this.repositories::remove);
-        }
+        ClassLoader loader = classLoader();
+        Optional<ClassIndex> index = ClassIndex.load(loader);
+        logPhase("class index lookup", start);
+        index.ifPresent(this::loadIndex);
+        scan(index.orElse(null));
 
-        logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d and projections: %d",
-                entities.size(), embeddables.size(), repositories.size(), projections.size()));
+        logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d "
+                        + "and projections: %d in %d ms", entities.size(), embeddables.size(), repositories.size(),
+                projections.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
 
     }
 
@@ -123,6 +131,82 @@ enum ClassGraphClassScanner implements ClassScanner {
         return projections;
     }
 
+    private void loadIndex(ClassIndex index) {
+        long start = System.nanoTime();
+        this.entities.addAll(index.get(ClassIndex.Kind.ENTITY));
+        this.embeddables.addAll(index.get(ClassIndex.Kind.EMBEDDABLE));
+        index.get(ClassIndex.Kind.PROJECTION).stream().filter(Class::isRecord).forEach(this.projections::add);
+        List<Class<?>> notSupportedRepositories = new ArrayList<>();
+        for (Class<?> repository : index.get(ClassIndex.Kind.REPOSITORY)) {
+            if (!repository.isInterface()) {
+                continue;
+            }
+            if (!DataRepository.class.isAssignableFrom(repository)) {
+                this.customRepositories.add(repository);
+            } else if (RepositoryFilter.INSTANCE.test(repository)) {
+                this.repositories.add(repository);
+            } else {
+                notSupportedRepositories.add(repository);
+            }
+        }
+        logger.info("The following repositories are not supported: " + notSupportedRepositories);
+        logPhase("class index loading", start);
+    }
+
+    private void scan(ClassIndex index) {
+        long start = System.nanoTime();
+        String[] packages = packages();
+        ClassGraph classGraph = new ClassGraph().enableAllInfo();
+        if (index != null) {
+            logger.fine(() -> "Skipping the indexed class path roots " + index.roots());
+            classGraph.filterClasspathElements(element -> !index.isIndexed(element));
+        }
+        if (packages.length > 0) {
+            logger.fine(() -> "Scanning the packages " + Arrays.toString(packages));
+            classGraph.acceptPackages(packages);
+        } else {
+            logger.fine(() -> "Scanning the whole class path, define "
+                    + Configurations.SCAN_PACKAGES.get() + " to narrow it down");
+        }
+        try (ScanResult result = classGraph.scan()) {
+            logPhase("class path scan", start);
+            long phase = System.nanoTime();
+            var notSupportedRepositories = loadNotSupportedRepositories(result);
+            logger.info("The following repositories are not supported: " + notSupportedRepositories);
+            this.entities.addAll(loadEntities(result));
+            this.embeddables.addAll(loadEmbeddable(result));
+            logPhase("entities and embeddables loading", phase);
+            phase = System.nanoTime();
+            this.repositories.addAll(loadRepositories(result));
+            this.customRepositories.addAll(loadCustomRepositories(result));
+            notSupportedRepositories.forEach(this.repositories::remove);
+            logPhase("repositories loading", phase);
+            phase = System.nanoTime();
+            this.projections.addAll(loadProjection(result));
+            logPhase("projections loading", phase);
+        }
+    }
+
+    private static String[] packages() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue(Configurations.SCAN_PACKAGES.get(), String.class)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(Predicate.not(String::isBlank))
+                        .toArray(String[]::new))
+                .orElseGet(() -> new String[0]);
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? ClassGraphClassScanner.class.getClassLoader() : loader;
+    }
+
+    private void logPhase(String phase, long start) {
+        logger.fine(() -> String.format("The %s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
     @SuppressWarnings("rawtypes")
     private static List<Class<DataRepository>> loadRepositories(ScanResult scan) {
         return scan.getClassesWithAnnotation(Repository.class)
@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.Projection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * The index of the entities, embeddables, projections and repositories written at build time by the
+ * {@link ClassIndexProcessor} at {@link #LOCATION}. Each line holds the {@link Kind} and the binary name of a class,
+ * such as {@code ENTITY org.acme.Person}. When there are several indexes on the class path, e.g., one per jar,
+ * they are merged. The index covers only the class path roots, jars or directories, that hold one, see
+ * {@link #roots()}; the classes of the other roots must still be scanned.
+ */
+final class ClassIndex {
+
+    /**
+     * The location of the index on the class path.
+     */
+    static final String LOCATION = "META-INF/jnosql/class-index";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassIndex.class.getName());
+
+    private static final Pattern URL_SCHEME = Pattern.compile("[a-zA-Z][a-zA-Z0-9+.-]+:");
+
+    /**
+     * The kinds of classes in the index, each one identified by its annotation.
+     */
+    enum Kind {
+        ENTITY(Entity.class),
+        EMBEDDABLE(Embeddable.class),
+        PROJECTION(Projection.class),
+        REPOSITORY(Repository.class);
+
+        private final Class<? extends Annotation> annotation;
+
+        Kind(Class<? extends Annotation> annotation) {
+            this.annotation = annotation;
+        }
+
+        Class<? extends Annotation> annotation() {
+            return annotation;
+        }
+    }
+
+    private final Map<Kind, Set<Class<?>>> classes;
+
+    private final Set<String> roots;
+
+    private ClassIndex(Map<Kind, Set<Class<?>>> classes, Set<String> roots) {
+        this.classes = classes;
+        this.roots = roots;
+    }
+
+    /**
+     * Returns the classes of a kind.
+     *
+     * @param kind the kind
+     * @return the classes of the kind
+     */
+    Set<Class<?>> get(Kind kind) {
+        return classes.getOrDefault(kind, Collections.emptySet());
+    }
+
+    /**
+     * Returns the class path roots that hold an index, as normalized by {@link #root(String)}.
+     *
+     * @return the indexed roots
+     */
+    Set<String> roots() {
+        return roots;
+    }
+
+    /**
+     * Returns whether a class path root, a jar or a directory as a path or a URL, holds an index.
+     *
+     * @param location the class path root
+     * @return true when the root is indexed
+     */
+    boolean isIndexed(String location) {
+        return roots.contains(root(location));
+    }
+
+    /**
+     * Loads and merges all the indexes at the class path. The classes that can no longer be loaded or that no
+     * longer have the annotation of their kind, e.g., when an index is left over from a previous build, are ignored.
+     *
+     * @param loader the class loader
+     * @return the index or {@link Optional#empty()} when there is no index on the class path
+     */
+    static Optional<ClassIndex> load(ClassLoader loader) {
+        Map<Kind, Set<String>> names = new EnumMap<>(Kind.class);
+        Set<String> roots = new HashSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                LOGGER.fine(() -> "Reading the class index " + resource);
+                try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                    read(reader, names);
+                }
+                String location = resource.toExternalForm();
+                roots.add(root(location.substring(0, location.length() - LOCATION.length())));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Error while reading the class index " + LOCATION, exception);
+        }
+        if (roots.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<Kind, Set<Class<?>>> classes = new EnumMap<>(Kind.class);
+        names.forEach((kind, types) -> {
+            Set<Class<?>> loaded = new HashSet<>();
+            for (String name : types) {
+                toClass(name, kind, loader).ifPresent(loaded::add);
+            }
+            classes.put(kind, loaded);
+        });
+        return Optional.of(new ClassIndex(classes, Collections.unmodifiableSet(roots)));
+    }
+
+    /**
+     * Normalizes a class path root, so the same jar or directory has the same value either as the URL of its index,
+     * e.g. {@code jar:file:/libs/app.jar!/}, or as a class path element, e.g. {@code /libs/app.jar}.
+     *
+     * @param location the class path root as a path or a URL
+     * @return the normalized root
+     */
+    static String root(String location) {
+        String root = location;
+        if (root.startsWith("jar:")) {
+            root = root.substring("jar:".length());
+        }
+        if (root.endsWith("!/")) {
+            root = root.substring(0, root.length() - 2);
+        }
+        boolean url = URL_SCHEME.matcher(root).lookingAt();
+        if (!url || root.startsWith("file:")) {
+            try {
+                Path path = url ? Path.of(URI.create(root)) : Path.of(root);
+                return path.toAbsolutePath().normalize().toString();
+            } catch (IllegalArgumentException | FileSystemNotFoundException exception) {
+                LOGGER.finest(() -> "The class path root " + location + " is not a path: " + exception);
+            }
+        }
+        return root.endsWith("/") ? root.substring(0, root.length() - 1) : root;
+    }
+
+    /**
+     * Reads the entries of an index, ignoring blank lines, comments starting with {@code #} and unknown kinds.
+     *
+     * @param reader the index content
+     * @param names  the class names by kind where the entries are added
+     * @throws IOException when the content cannot be read
+     */
+    static void read(Reader reader, Map<Kind, Set<String>> names) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            String entry = line.trim();
+            int separator = entry.indexOf(' ');
+            if (entry.isEmpty() || entry.startsWith("#") || separator < 0) {
+                continue;
+            }
+            String kind = entry.substring(0, separator);
+            String name = entry.substring(separator + 1).trim();
+            for (Kind value : Kind.values()) {
+                if (value.name().equals(kind)) {
+                    names.computeIfAbsent(value, k -> new TreeSet<>()).add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the entries of an index sorted by kind and name, so the same sources always produce the same file.
+     *
+     * @param writer the index destination
+     * @param names  the class names by kind
+     * @throws IOException when the content cannot be written
+     */
+    static void write(Writer writer, Map<Kind, Set<String>> names) throws IOException {
+        writer.write("# Generated by " + ClassIndexProcessor.class.getName() + System.lineSeparator());
+        for (Kind kind : Kind.values()) {
+            for (String name : new TreeSet<>(names.getOrDefault(kind, Collections.emptySet()))) {
+                writer.write(kind.name() + ' ' + name + System.lineSeparator());
+            }
+        }
+    }
+
+    private static Optional<Class<?>> toClass(String name, Kind kind, ClassLoader loader) {
+        try {
+            Class<?> type = Class.forName(name, false, loader);
+            if (type.isAnnotationPresent(kind.annotation())) {
+                return Optional.of(type);
+            }
+            LOGGER.fine(() -> "Ignoring the class " + name + " at the class index, it is not annotated with "
+                    + kind.annotation().getName());
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.fine(() -> "Ignoring the class " + name + " at the class index, it cannot be loaded: " + exception);
+        }
+        return Optional.empty();
+    }
+}
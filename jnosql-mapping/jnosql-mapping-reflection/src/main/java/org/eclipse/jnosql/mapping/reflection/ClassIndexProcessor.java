@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor that writes the {@link ClassIndex} of the compiled sources, so the
+ * {@link ReflectionClassScanner} finds the entities, embeddables, projections and repositories without scanning
+ * the class path at startup. It is registered as a service, so it runs whenever this module is on the class path
+ * of the compiler.
+ * <p>The entries of an index left by a previous compilation of the same output directory are kept, which supports
+ * incremental and split compilations; the entries that are no longer valid are ignored when the index is loaded.</p>
+ */
+public final class ClassIndexProcessor extends AbstractProcessor {
+
+    private final Map<ClassIndex.Kind, Set<String>> names = new EnumMap<>(ClassIndex.Kind.class);
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Arrays.stream(ClassIndex.Kind.values())
+                .map(kind -> kind.annotation().getName())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!names.isEmpty()) {
+                write();
+            }
+            return false;
+        }
+        for (ClassIndex.Kind kind : ClassIndex.Kind.values()) {
+            TypeElement annotation = processingEnv.getElementUtils().getTypeElement(kind.annotation().getName());
+            if (annotation == null) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type && isSupported(kind, type)) {
+                    String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+                    names.computeIfAbsent(kind, k -> new TreeSet<>()).add(name);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSupported(ClassIndex.Kind kind, TypeElement type) {
+        return switch (kind) {
+            case REPOSITORY -> type.getKind() == ElementKind.INTERFACE;
+            case PROJECTION -> type.getKind() == ElementKind.RECORD;
+            default -> type.getKind().isClass() || type.getKind().isInterface();
+        };
+    }
+
+    private void write() {
+        var filer = processingEnv.getFiler();
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", ClassIndex.LOCATION);
+            try (Reader reader = previous.openReader(true)) {
+                ClassIndex.read(reader, names);
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            // there is no index from a previous compilation
+        }
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", ClassIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                ClassIndex.write(writer, names);
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write the JNoSQL class index " + ClassIndex.LOCATION + ": " + exception.getMessage());
+        }
+    }
+}
@@ -14,7 +14,6 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
-import jakarta.data.exceptions.MappingException;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
@@ -24,7 +23,6 @@ import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -68,18 +66,13 @@ final class DefaultConstructorBuilder implements ConstructorBuilder {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T build() {
-        Constructor<?> constructor = ((DefaultConstructorMetadata) metadata).constructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        DefaultConstructorMetadata constructorMetadata = (DefaultConstructorMetadata) metadata;
+        Object[] arguments = values.toArray();
+        Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
+        });
+        Event<ConstructorEvent> event = instance.get();
+        event.fire(ConstructorEvent.of(constructorMetadata.constructor(), arguments));
+        return (T) constructorMetadata.invoker().apply(arguments);
     }
 
     @Override
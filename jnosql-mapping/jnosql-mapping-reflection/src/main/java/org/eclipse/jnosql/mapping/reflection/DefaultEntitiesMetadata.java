@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -53,6 +54,10 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private final Map<Class<?>, ProjectionMetadata> projections;
 
+    private final AtomicLong inheritanceVersion;
+
+    private volatile InheritanceIndex inheritanceIndex;
+
 
     private final ClassConverter converter;
 
@@ -66,6 +71,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.findByClassName = new ConcurrentHashMap<>();
         this.converter = new ReflectionClassConverter();
         this.projections = new ConcurrentHashMap<>();
+        this.inheritanceVersion = new AtomicLong();
     }
 
     @PostConstruct
@@ -96,16 +102,41 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     @Override
     public EntityMetadata get(Class<?> entity) {
-        return classes.computeIfAbsent(entity, this::load);
+        EntityMetadata metadata = classes.get(entity);
+        if (metadata != null) {
+            return metadata;
+        }
+        metadata = classes.computeIfAbsent(entity, this::load);
+        inheritanceVersion.incrementAndGet();
+        return metadata;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The groups are computed once per parent and reused until a new entity is loaded through
+     * {@link #get(Class)}; the returned map is unmodifiable.</p>
+     */
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
+        return inheritanceIndex().groups().computeIfAbsent(parent, this::groupByDiscriminatorValue);
+    }
+
+    private Map<String, InheritanceMetadata> groupByDiscriminatorValue(Class<?> parent) {
+        return Map.copyOf(this.classes.values().stream()
                 .flatMap(c -> c.inheritance().stream())
                 .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity()));
+                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity())));
+    }
+
+    private InheritanceIndex inheritanceIndex() {
+        long version = inheritanceVersion.get();
+        InheritanceIndex index = this.inheritanceIndex;
+        if (index == null || index.version() != version) {
+            index = new InheritanceIndex(version, new ConcurrentHashMap<>());
+            this.inheritanceIndex = index;
+        }
+        return index;
     }
 
     @Override
@@ -147,4 +178,10 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
                 ", extension=" + extension +
                 '}';
     }
+
+    /**
+     * The discriminator groups by parent that are valid while the loaded entities do not change.
+     */
+    private record InheritanceIndex(long version, Map<Class<?>, Map<String, InheritanceMetadata>> groups) {
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the field accessors and the instance factories of an entity backed by {@link MethodHandle}s.
+ * The handles are resolved once, when the entity metadata is built, so reading or writing a field and creating
+ * an instance is a handle call instead of a reflective call with its access checks.
+ * When a handle cannot be created, such as for the final fields of a record, it falls back to reflection.
+ */
+final class MethodHandleAccessors {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleAccessors.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType READER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType SUPPLIER = MethodType.methodType(Object.class);
+
+    private static final MethodType INVOKER = MethodType.methodType(Object.class, Object[].class);
+
+    private MethodHandleAccessors() {
+    }
+
+    /**
+     * Creates the reader of a field. Like {@link Reflections#getValue(Object, Field)}, it returns null when
+     * the field cannot be read.
+     *
+     * @param field       the field, already accessible
+     * @param reflections the reflection fallback
+     * @return the field reader
+     */
+    static FieldReader reader(Field field, Reflections reflections) {
+        Objects.requireNonNull(field, "field is required");
+        if (!Modifier.isStatic(field.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectGetter(field).asType(READER);
+                return bean -> {
+                    try {
+                        return handle.invokeExact(bean);
+                    } catch (RuntimeException exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", exception);
+                        return null;
+                    } catch (Throwable throwable) {
+                        throw propagate(throwable);
+                    }
+                };
+            } catch (IllegalAccessException | WrongMethodTypeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to read the field " + field, exception);
+            }
+        }
+        return bean -> reflections.getValue(bean, field);
+    }
+
+    /**
+     * Creates the writer of a field. Like {@link Reflections#setValue(Object, Field, Object)}, it ignores the
+     * values that cannot be written.
+     *
+     * @param field       the field, already accessible
+     * @param reflections the reflection fallback
+     * @return the field writer
+     */
+    static FieldWriter writer(Field field, Reflections reflections) {
+        Objects.requireNonNull(field, "field is required");
+        if (!Modifier.isStatic(field.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectSetter(field).asType(WRITER);
+                return (bean, value) -> {
+                    try {
+                        handle.invokeExact(bean, value);
+                    } catch (RuntimeException exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+                    } catch (Throwable throwable) {
+                        throw propagate(throwable);
+                    }
+                };
+            } catch (IllegalAccessException | WrongMethodTypeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to write the field " + field, exception);
+            }
+        }
+        return (bean, value) -> reflections.setValue(bean, field, value);
+    }
+
+    /**
+     * Creates the instance supplier of a no-arg constructor. Like {@link Reflections#newInstance(Constructor)},
+     * it returns null when the instance cannot be created.
+     *
+     * @param constructor the no-arg constructor
+     * @return the instance supplier
+     */
+    static InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        if (constructor.getParameterCount() == 0) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(SUPPLIER);
+                return () -> {
+                    try {
+                        return handle.invokeExact();
+                    } catch (Error error) {
+                        throw error;
+                    } catch (Throwable throwable) {
+                        LOGGER.log(Level.FINEST, "There is an issue to creating an entity from this constructor",
+                                throwable);
+                        return null;
+                    }
+                };
+            } catch (IllegalAccessException | WrongMethodTypeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to call the constructor " + constructor, exception);
+            }
+        }
+        return () -> Reflections.newInstance(constructor);
+    }
+
+    /**
+     * Creates the invoker of a constructor that receives the arguments as an array.
+     *
+     * @param constructor the constructor
+     * @return the constructor invoker
+     * @throws MappingException at the invocation, when the instance cannot be created
+     */
+    static ConstructorInvoker invoker(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(INVOKER);
+            return arguments -> {
+                try {
+                    return handle.invokeExact(arguments);
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    throw new MappingException("There is an issue to create a new instance of this class" +
+                            " using this constructor: " + constructor, throwable);
+                }
+            };
+        } catch (IllegalAccessException | WrongMethodTypeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to call the constructor " + constructor, exception);
+        }
+        return arguments -> {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new MappingException("There is an issue to create a new instance of this class" +
+                        " using this constructor: " + constructor, e);
+            }
+        };
+    }
+
+    private static RuntimeException propagate(Throwable throwable) {
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new MappingException("There is an issue to access the field", throwable);
+    }
+}
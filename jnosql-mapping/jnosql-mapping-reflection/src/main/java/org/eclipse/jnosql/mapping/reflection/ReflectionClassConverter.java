@@ -70,7 +70,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = Reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> Reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = MethodHandleAccessors.instanceSupplier(constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -178,8 +178,8 @@ public final class ReflectionClassConverter implements ClassConverter {
         String udt = reflections.getUDTName(field);
         FieldMappingBuilder builder = new FieldMappingBuilder().name(columnName)
                 .field(field).type(mappingType).id(id).udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(MethodHandleAccessors.reader(field, reflections))
+                .writer(MethodHandleAccessors.writer(field, reflections));
 
         if (nonNull(convert)) {
             builder.converter(convert.value());
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadEntries() throws IOException {
+        Map<ClassIndex.Kind, Set<String>> names = new EnumMap<>(ClassIndex.Kind.class);
+        ClassIndex.read(new StringReader("""
+                # comment
+                ENTITY org.acme.Person
+
+                UNKNOWN org.acme.Ignored
+                REPOSITORY org.acme.People
+                """), names);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names.get(ClassIndex.Kind.ENTITY)).containsExactly("org.acme.Person");
+            soft.assertThat(names.get(ClassIndex.Kind.REPOSITORY)).containsExactly("org.acme.People");
+            soft.assertThat(names).doesNotContainKey(ClassIndex.Kind.EMBEDDABLE);
+        });
+    }
+
+    @Test
+    void shouldIgnoreInvalidClasses() throws IOException {
+        Files.createDirectories(directory.resolve("META-INF/jnosql"));
+        Files.writeString(directory.resolve(ClassIndex.LOCATION), """
+                ENTITY org.acme.Missing
+                ENTITY java.lang.String
+                ENTITY %s
+                """.formatted(Person.class.getName()));
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            var index = ClassIndex.load(loader);
+            assertThat(index).isPresent();
+            assertThat(index.orElseThrow().get(ClassIndex.Kind.ENTITY))
+                    .contains(Person.class)
+                    .doesNotContain(String.class);
+        }
+    }
+
+    @Test
+    void shouldKeepTheIndexedRoots() throws IOException {
+        Files.createDirectories(directory.resolve("META-INF/jnosql"));
+        Files.writeString(directory.resolve(ClassIndex.LOCATION), "ENTITY " + Person.class.getName());
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            var index = ClassIndex.load(loader).orElseThrow();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(index.isIndexed(directory.toString())).isTrue();
+                soft.assertThat(index.isIndexed(directory.toUri().toString())).isTrue();
+                soft.assertThat(index.isIndexed(directory.resolve("other").toString())).isFalse();
+            });
+        }
+    }
+
+    @Test
+    void shouldNormalizeRoots() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ClassIndex.root("jar:file:/libs/app.jar!/")).isEqualTo(ClassIndex.root("/libs/app.jar"));
+            soft.assertThat(ClassIndex.root("file:/app/classes/")).isEqualTo(ClassIndex.root("/app/./classes"));
+            soft.assertThat(ClassIndex.root("http://host/app/")).isEqualTo("http://host/app");
+        });
+    }
+
+    @Test
+    void shouldWriteIndexAtCompilation() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("sources/sample"));
+        Path output = Files.createDirectories(directory.resolve("classes"));
+        Files.writeString(sources.resolve("Book.java"), """
+                package sample;
+
+                @jakarta.nosql.Entity
+                public class Book {
+
+                    @jakarta.nosql.Embeddable
+                    public static class Author {
+                    }
+                }
+                """);
+        Files.writeString(sources.resolve("BookView.java"), """
+                package sample;
+
+                @org.eclipse.jnosql.mapping.Projection
+                public record BookView(String title) {
+                }
+                """);
+        Files.writeString(sources.resolve("BookSummary.java"), """
+                package sample;
+
+                @org.eclipse.jnosql.mapping.Projection
+                public class BookSummary {
+                }
+                """);
+        Files.writeString(sources.resolve("Library.java"), """
+                package sample;
+
+                @jakarta.data.repository.Repository
+                public interface Library extends jakarta.data.repository.BasicRepository<Book, String> {
+                }
+                """);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-proc:only",
+                "-processor", ClassIndexProcessor.class.getName(),
+                "-cp", System.getProperty("java.class.path"),
+                "-d", output.toString(),
+                sources.resolve("Book.java").toString(),
+                sources.resolve("BookView.java").toString(),
+                sources.resolve("BookSummary.java").toString(),
+                sources.resolve("Library.java").toString());
+
+        assertThat(result).isZero();
+        List<String> lines = Files.readAllLines(output.resolve(ClassIndex.LOCATION));
+        assertThat(lines).contains("ENTITY sample.Book",
+                        "EMBEDDABLE sample.Book$Author",
+                        "PROJECTION sample.BookView",
+                        "REPOSITORY sample.Library")
+                .doesNotContain("PROJECTION sample.BookSummary");
+    }
+}
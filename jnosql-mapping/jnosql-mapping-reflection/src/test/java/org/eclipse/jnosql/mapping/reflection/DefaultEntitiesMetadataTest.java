@@ -142,6 +142,30 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Project"));
     }
 
+    @Test
+    void shouldReuseDiscriminatorGroups() {
+        Map<String, InheritanceMetadata> group = this.mappings.findByParentGroupByDiscriminatorValue(Project.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(this.mappings.findByParentGroupByDiscriminatorValue(Project.class)).isSameAs(group);
+            softly.assertThatThrownBy(() -> group.put("Medium", null))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
+    @Test
+    void shouldRefreshDiscriminatorGroupsWhenEntityIsLoaded() {
+        Map<String, InheritanceMetadata> group = this.mappings.findByParentGroupByDiscriminatorValue(Project.class);
+
+        this.mappings.get(Unmapped.class);
+        Map<String, InheritanceMetadata> refreshed = this.mappings.findByParentGroupByDiscriminatorValue(Project.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(refreshed).isNotSameAs(group);
+            softly.assertThat(refreshed).isEqualTo(group);
+        });
+    }
+
     @Test
     void shouldLoadUsingGet() {
         this.mappings.load(Movie.class);
@@ -162,4 +186,7 @@ class DefaultEntitiesMetadataTest {
             softly.assertThat(projectionMetadata.className()).isEqualTo(ComputerView.class.getName());
         });
     }
-}
\ No newline at end of file
+
+    static class Unmapped {
+    }
+}
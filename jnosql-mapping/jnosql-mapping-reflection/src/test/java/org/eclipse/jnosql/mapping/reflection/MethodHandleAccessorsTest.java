@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Counter;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Smartphone;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodHandleAccessorsTest {
+
+    private final Reflections reflections = new Reflections();
+
+    @Test
+    void shouldReadAndWriteField() throws NoSuchFieldException {
+        Field field = field(Person.class, "name");
+        Person person = (Person) MethodHandleAccessors.instanceSupplier(Reflections.getConstructor(Person.class)).get();
+
+        MethodHandleAccessors.writer(field, reflections).write(person, "Ada");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+            soft.assertThat(MethodHandleAccessors.reader(field, reflections).read(person)).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldWritePrimitiveField() throws NoSuchFieldException {
+        Field field = field(Person.class, "age");
+        Person person = (Person) MethodHandleAccessors.instanceSupplier(Reflections.getConstructor(Person.class)).get();
+
+        MethodHandleAccessors.writer(field, reflections).write(person, 36);
+
+        assertThat(person.getAge()).isEqualTo(36);
+    }
+
+    @Test
+    void shouldIgnoreInvalidValues() throws NoSuchFieldException {
+        Field field = field(Person.class, "age");
+        Person person = (Person) MethodHandleAccessors.instanceSupplier(Reflections.getConstructor(Person.class)).get();
+
+        MethodHandleAccessors.writer(field, reflections).write(person, "invalid");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getAge()).isZero();
+            soft.assertThat(MethodHandleAccessors.reader(field, reflections).read(null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldFallbackToReflectionOnRecordFields() throws NoSuchFieldException {
+        Field field = field(Smartphone.class, "owner");
+        Smartphone smartphone = new Smartphone("id", "Ada");
+
+        MethodHandleAccessors.writer(field, reflections).write(smartphone, "Grace");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(smartphone.owner()).isEqualTo("Ada");
+            soft.assertThat(MethodHandleAccessors.reader(field, reflections).read(smartphone)).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldInvokeConstructorWithWideningConversion() {
+        Constructor<Counter> constructor = Reflections.getConstructor(Counter.class);
+
+        Object counter = MethodHandleAccessors.invoker(constructor)
+                .apply(new Object[]{(byte) 0, Boolean.TRUE, (byte) 0, 'a'});
+
+        assertThat(counter).isEqualTo(new Counter(0, true, 0D, 'a'));
+    }
+
+    @Test
+    void shouldReturnErrorWhenConstructorArgumentsAreInvalid() {
+        Constructor<Counter> constructor = Reflections.getConstructor(Counter.class);
+
+        assertThatThrownBy(() -> MethodHandleAccessors.invoker(constructor).apply(new Object[]{1}))
+                .isInstanceOf(MappingException.class);
+    }
+
+    private Field field(Class<?> type, String name) throws NoSuchFieldException {
+        Field field = type.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        return field;
+    }
+}
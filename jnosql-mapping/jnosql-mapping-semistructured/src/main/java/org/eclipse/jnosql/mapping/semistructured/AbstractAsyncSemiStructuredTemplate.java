@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.ASYNC_CONCURRENCY;
+
+/**
+ * An abstract implementation of {@link AsyncSemiStructuredTemplate} that runs the operations of a blocking
+ * {@link SemiStructuredTemplate} on the {@link #executor()}, virtual threads by default. Each instance allows at most
+ * {@link org.eclipse.jnosql.communication.Configurations#ASYNC_CONCURRENCY} operations at the same time, and a
+ * {@link #select(SelectQuery)} holds one of them only while it issues the query, not while its stream is read.
+ *
+ * @see AsyncSemiStructuredTemplate
+ */
+public abstract class AbstractAsyncSemiStructuredTemplate implements AsyncSemiStructuredTemplate {
+
+    /**
+     * The default number of operations that run at the same time,
+     * see {@link org.eclipse.jnosql.communication.Configurations#ASYNC_CONCURRENCY}.
+     */
+    protected static final int DEFAULT_CONCURRENCY = 64;
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("jnosql-async").start(task);
+
+    private final Semaphore permits = new Semaphore(concurrency());
+
+    /**
+     * Retrieves the blocking template that runs the operations.
+     *
+     * @return the template
+     */
+    protected abstract SemiStructuredTemplate template();
+
+    /**
+     * Returns the executor that runs the operations, by default a new virtual thread for each operation.
+     *
+     * @return the executor
+     */
+    protected Executor executor() {
+        return VIRTUAL_THREADS;
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return supply(() -> template().insert(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return supply(() -> template().insert(entity, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return supply(() -> template().insert(entities));
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        requireNonNull(entity, "entity is required");
+        return supply(() -> template().update(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return supply(() -> template().update(entities));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        return supply(() -> template().find(type, id));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> delete(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        return supply(() -> {
+            template().delete(type, id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return supply(() -> {
+            template().delete(query);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return new StreamPublisher<>(() -> withPermit(() -> template().<T>select(query)), executor());
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResult(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return supply(() -> template().singleResult(query));
+    }
+
+    @Override
+    public <T> CompletionStage<Page<T>> selectOffSet(SelectQuery query, PageRequest pageRequest) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageRequest, "pageRequest is required");
+        return supply(() -> template().selectOffSet(query, pageRequest));
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return supply(() -> template().count(query));
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return supply(() -> template().exists(query));
+    }
+
+    private <T> CompletionStage<T> supply(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> withPermit(operation), executor());
+    }
+
+    private <T> T withPermit(Supplier<T> operation) {
+        permits.acquireUninterruptibly();
+        try {
+            return operation.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static int concurrency() {
+        int concurrency = MicroProfileSettings.INSTANCE.get(ASYNC_CONCURRENCY, Integer.class)
+                .orElse(DEFAULT_CONCURRENCY);
+        return concurrency > 0 ? concurrency : DEFAULT_CONCURRENCY;
+    }
+}
@@ -20,6 +20,7 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.nosql.MappingException;
 import jakarta.nosql.QueryMapper;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
@@ -37,18 +38,20 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
 import static org.eclipse.jnosql.communication.Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING;
 
 /**
@@ -64,6 +67,14 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     private static final QueryParser PARSER = new QueryParser();
 
+    /**
+     * The default number of entities sent to the manager on each bulk insert or update,
+     * see {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}.
+     */
+    protected static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final OffsetPages offsetPages = new OffsetPages(this::pageTotalExecutor);
+
     private final UnaryOperator<CommunicationEntity> insert = e -> manager().insert(e);
 
     private final UnaryOperator<CommunicationEntity> update = e -> manager().update(e);
@@ -127,24 +138,20 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().update(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e, ttl));
     }
 
     @Override
@@ -155,11 +162,13 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     @Override
     public long count(SelectQuery query) {
+        requireNonNull(query, "query is required");
         return manager().count(query);
     }
 
     @Override
     public boolean exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
         return manager().exists(query);
     }
 
@@ -278,14 +287,21 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> long count(Class<T> type) {
         requireNonNull(type, "entity class is required");
-        return manager().count(findAllQuery(type));
+        return count(findAllQuery(type));
     }
 
-    private <T> Stream<T> executeQuery(SelectQuery query) {
+    @Override
+    public <T> Stream<T> select(SelectQuery query, ParallelConversion conversion) {
         requireNonNull(query, "query is required");
+        requireNonNull(conversion, "conversion is required");
         Stream<CommunicationEntity> entities = manager().select(query);
         Function<CommunicationEntity, T> function = e -> converter().toEntity(e);
-        return entities.map(function);
+        return conversion.apply(entities, function);
+    }
+
+    private <T> Stream<T> executeQuery(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return select(query, ParallelConversion.SEQUENTIAL);
     }
 
     @Override
@@ -345,14 +361,30 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         return new CursoredPageRecord<>(entities, cursors, -1, pageRequest, nextPageRequest, beforePageRequest);
     }
 
+    /**
+     * Returns the executor that counts the total of an offset-based page while the page is fetched, see
+     * {@link org.eclipse.jnosql.communication.Configurations#PAGINATION_TOTAL}; by default, a new virtual thread for
+     * each count. Override it with a managed executor when the count needs the context of the caller, such as its
+     * transaction or security context.
+     *
+     * @return the executor
+     */
+    protected Executor pageTotalExecutor() {
+        return OffsetPages.VIRTUAL_THREADS;
+    }
+
     @Override
     public <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest) {
         requireNonNull(query, "query is required");
         requireNonNull(pageRequest, "pageRequest is required");
         var queryPage = new MappingQuery(query.sorts(), pageRequest.size(), NoSQLPage.skip(pageRequest),
                 query.condition().orElse(null), query.name(), query.columns());
-        Stream<T> result = select(queryPage);
-        return NoSQLPage.of(result.toList(), pageRequest);
+        return selectOffSet(query, pageRequest, () -> this.<T>select(queryPage).toList());
+    }
+
+    @Override
+    public <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest, Supplier<List<T>> content) {
+        return offsetPages.page(this, query, pageRequest, content);
     }
 
     protected <T> T persist(T entity, UnaryOperator<CommunicationEntity> persistAction) {
@@ -366,6 +398,74 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities in chunks of {@link #batchSize()} entities. For each chunk, it fires the pre-persist
+     * events, converts the entities, hands the whole chunk to the persist action, maps the results back to the
+     * entities in the same order and fires the post-persist events.
+     *
+     * @param entities      the entities to persist
+     * @param persistAction the bulk operation at the manager
+     * @param <T>           the entity type
+     * @return the persisted entities
+     */
+    protected <T> List<T> persistAll(Iterable<T> entities,
+                                     Function<Iterable<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction) {
+        int batchSize = batchSize();
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            requireNonNull(entity, "entity is required");
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                result.addAll(persistChunk(chunk, persistAction));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(persistChunk(chunk, persistAction));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of entities sent to the manager on each bulk insert or update. By default, it reads
+     * {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE} and falls back to {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    private <T> List<T> persistChunk(List<T> chunk,
+                                     Function<Iterable<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction) {
+        List<CommunicationEntity> communications = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            eventManager().firePreEntity(entity);
+            communications.add(converter().toCommunication(entity));
+        }
+        LOGGER.finest(() -> "Persisting a batch of " + communications.size() + " entities");
+        Iterable<CommunicationEntity> persisted = persistAction.apply(communications);
+        Iterator<CommunicationEntity> iterator = persisted == null ? null : persisted.iterator();
+        if (iterator == null || !iterator.hasNext()) {
+            LOGGER.fine(() -> "The database manager returned no entities for a batch of " + communications.size()
+                    + ", keeping the entities as sent");
+            iterator = communications.iterator();
+        }
+        List<T> result = new ArrayList<>(chunk.size());
+        for (int index = 0; index < chunk.size(); index++) {
+            if (!iterator.hasNext()) {
+                throw new MappingException("The database manager returned " + index + " entities for a batch of "
+                        + chunk.size() + ", so the values it generated cannot be matched to the entities");
+            }
+            T entity = converter().toEntity(chunk.get(index), iterator.next());
+            eventManager().firePostEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -391,13 +491,6 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     }
 
     private <T> Function<CommunicationEntity, T> mappers(MapperObserver observer) {
-        Function<T, T> fieldMapper = fieldMapper(observer);
-        Function<CommunicationEntity, T> entityMapper = c -> converter().toEntity(c);
-        return entityMapper.andThen(fieldMapper);
-    }
-
-    @SuppressWarnings("unchecked")
-    private <T> T fieldMapper(MapperObserver observer) {
-        return (T) SelectFieldMapper.INSTANCE.<T>map(observer, entities());
+        return SelectFieldMapper.INSTANCE.map(observer, entities(), converter());
     }
 }
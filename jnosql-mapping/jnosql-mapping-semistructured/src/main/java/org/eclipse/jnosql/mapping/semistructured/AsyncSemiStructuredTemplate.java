@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The asynchronous companion of {@link SemiStructuredTemplate}. The single operations return a
+ * {@link CompletionStage} and the queries return a {@link Flow.Publisher} that reads the entities
+ * as the subscriber requests them, so a caller can start several database round trips at the same time
+ * instead of waiting for each one in turn.
+ * <p>
+ * The default implementations, see {@link AbstractAsyncSemiStructuredTemplate}, run the blocking template on
+ * virtual threads. A driver with a native asynchronous client may provide its own implementation as a bean
+ * with a higher priority.
+ * </p>
+ *
+ * @see SemiStructuredTemplate
+ */
+public interface AsyncSemiStructuredTemplate {
+
+    /**
+     * Inserts an entity.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the stage of the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity with a time to live.
+     *
+     * @param entity the entity to insert
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage of the inserted entity
+     * @throws NullPointerException when entity or ttl is null
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts the entities.
+     *
+     * @param entities the entities to insert
+     * @param <T>      the entity type
+     * @return the stage of the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Updates an entity.
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @return the stage of the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities.
+     *
+     * @param entities the entities to update
+     * @param <T>      the entity type
+     * @return the stage of the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Finds an entity by its id.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage of the entity, or of an empty {@link Optional} when it is not found
+     * @throws NullPointerException when type or id is null
+     */
+    <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id);
+
+    /**
+     * Deletes an entity by its id.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage that completes when the entity is deleted
+     * @throws NullPointerException when type or id is null
+     */
+    <T, K> CompletionStage<Void> delete(Class<T> type, K id);
+
+    /**
+     * Deletes the entities that match the query.
+     *
+     * @param query the delete query
+     * @return the stage that completes when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Selects the entities that match the query. The query runs when the subscriber requests the first
+     * entities, and the entities are read as the subscriber requests them. The publisher accepts a single
+     * subscriber.
+     *
+     * @param query the select query
+     * @param <T>   the entity type
+     * @return the publisher of the entities
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query);
+
+    /**
+     * Selects the single entity that matches the query.
+     *
+     * @param query the select query
+     * @param <T>   the entity type
+     * @return the stage of the entity, or of an empty {@link Optional} when none matches
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<Optional<T>> singleResult(SelectQuery query);
+
+    /**
+     * Selects the offset-based page of the query, see {@link SemiStructuredTemplate#selectOffSet}.
+     *
+     * @param query       the select query
+     * @param pageRequest the page request
+     * @param <T>         the entity type
+     * @return the stage of the page
+     * @throws NullPointerException when query or pageRequest is null
+     */
+    <T> CompletionStage<Page<T>> selectOffSet(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Counts the entities that match the query.
+     *
+     * @param query the select query
+     * @return the stage of the number of entities
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Checks whether any entity matches the query.
+     *
+     * @param query the select query
+     * @return the stage of true when an entity matches
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Boolean> exists(SelectQuery query);
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Converts the rows of a select on a pool of virtual threads, see {@link ParallelConversion}. A reader thread takes
+ * a permit of the prefetch window for each row, reads it and submits its conversion; the consumer takes the
+ * conversions from a queue and gives the permit back, so the reading waits while the consumer is behind. In the
+ * ordered mode the reader queues each conversion when it submits it; otherwise each conversion queues itself when
+ * it is done.
+ */
+final class ConversionPipeline<T> implements Iterator<T> {
+
+    private static final Future<?> END = CompletableFuture.completedFuture(null);
+
+    private final Stream<CommunicationEntity> source;
+
+    private final Function<CommunicationEntity, T> converter;
+
+    private final boolean ordered;
+
+    private final Semaphore window;
+
+    private final BlockingQueue<Future<T>> results = new LinkedBlockingQueue<>();
+
+    private final ExecutorService workers;
+
+    private final Thread reader;
+
+    private volatile boolean closed;
+
+    private Future<T> next;
+
+    private ConversionPipeline(Stream<CommunicationEntity> source, Function<CommunicationEntity, T> converter,
+                               ParallelConversion conversion) {
+        this.source = source;
+        this.converter = converter;
+        this.ordered = conversion.ordered();
+        this.window = new Semaphore(conversion.prefetch());
+        this.workers = Executors.newFixedThreadPool(conversion.parallelism(),
+                Thread.ofVirtual().name("jnosql-conversion-", 0).factory());
+        this.reader = Thread.ofVirtual().name("jnosql-select").unstarted(this::read);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = take();
+        }
+        return next != END;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more entities to the select");
+        }
+        Future<T> future = next;
+        next = null;
+        window.release();
+        return get(future);
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        reader.interrupt();
+        workers.shutdownNow();
+    }
+
+    private void read() {
+        try (source) {
+            Iterator<CommunicationEntity> iterator = source.iterator();
+            while (!closed) {
+                window.acquire();
+                if (closed || !iterator.hasNext()) {
+                    break;
+                }
+                submit(iterator.next());
+            }
+            workers.shutdown();
+            if (!ordered) {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException exception) {
+            results.add(CompletableFuture.failedFuture(exception));
+        } finally {
+            results.add(end());
+        }
+    }
+
+    private void submit(CommunicationEntity entity) {
+        if (ordered) {
+            results.add(workers.submit(() -> converter.apply(entity)));
+            return;
+        }
+        workers.execute(new FutureTask<>(() -> converter.apply(entity)) {
+            @Override
+            protected void done() {
+                results.add(this);
+            }
+        });
+    }
+
+    private Future<T> take() {
+        if (closed) {
+            return end();
+        }
+        try {
+            Future<T> future = results.take();
+            if (future == END) {
+                close();
+            }
+            return future;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CommunicationException("The select was interrupted", exception);
+        }
+    }
+
+    private T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CommunicationException("The select was interrupted", exception);
+        } catch (CancellationException exception) {
+            close();
+            throw new CommunicationException("The conversion of the select was cancelled", exception);
+        } catch (ExecutionException exception) {
+            close();
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CommunicationException("Error while converting the select", exception.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<T> end() {
+        return (Future<T>) END;
+    }
+
+    static <T> Stream<T> of(Stream<CommunicationEntity> source, Function<CommunicationEntity, T> converter,
+                            ParallelConversion conversion) {
+        ConversionPipeline<T> pipeline = new ConversionPipeline<>(source, converter, conversion);
+        pipeline.reader.start();
+        int characteristics = conversion.ordered() ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pipeline, characteristics), false)
+                .onClose(pipeline::close);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A name index over the elements of a structure, built in a single pass, so the {@link EntityConverter} finds the
+ * element of each field without scanning the whole list.
+ * It keeps the first element of each name and, when that element holds a null value, the first one with a value.
+ */
+final class ElementIndex {
+
+    private final List<Element> elements;
+
+    private final Map<String, Element> first;
+
+    private Map<String, Element> firstWithValue;
+
+    private ElementIndex(List<Element> elements) {
+        this.elements = elements;
+        this.first = HashMap.newHashMap(elements.size());
+        for (Element element : elements) {
+            var current = first.putIfAbsent(element.name(), element);
+            if (current != null && current.value().isNull() && !element.value().isNull()) {
+                if (firstWithValue == null) {
+                    firstWithValue = new HashMap<>();
+                }
+                firstWithValue.putIfAbsent(element.name(), element);
+            }
+        }
+    }
+
+    /**
+     * @return the indexed elements
+     */
+    List<Element> elements() {
+        return elements;
+    }
+
+    /**
+     * @param name the element name
+     * @return true when there is an element with the name, even with a null value
+     */
+    boolean contains(String name) {
+        return first.containsKey(name);
+    }
+
+    /**
+     * @param name the element name
+     * @return the first element with the name or null
+     */
+    Element first(String name) {
+        return first.get(name);
+    }
+
+    /**
+     * @param name the element name
+     * @return the first element with the name that holds a value or null
+     */
+    Element firstWithValue(String name) {
+        var element = first.get(name);
+        if (element == null || !element.value().isNull()) {
+            return element;
+        }
+        return firstWithValue == null ? null : firstWithValue.get(name);
+    }
+
+    static ElementIndex of(List<Element> elements) {
+        return new ElementIndex(elements);
+    }
+}
@@ -26,12 +26,10 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
@@ -147,17 +145,20 @@ public abstract class EntityConverter {
     }
 
     protected <T> Consumer<String> feedObject(T entity, List<Element> elements, Map<String, FieldMetadata> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Element> element = elements.stream().filter(c -> c.name().equals(k))
-                    .filter(e -> !e.value().isNull()).findFirst();
-            FieldMetadata field = fieldsGroupByName.get(k);
-            FieldConverter fieldConverter = FieldConverter.get(field);
-            if (ENTITY.equals(field.mappingType())) {
-                element.ifPresent(c -> fieldConverter.convert(entity, c, field, this));
-            } else {
-                fieldConverter.convert(entity, elements, element.orElse(null), field, this);
+        ElementIndex index = ElementIndex.of(elements);
+        return (String k) -> feedObject(entity, index, k, fieldsGroupByName.get(k));
+    }
+
+    private <T> void feedObject(T entity, ElementIndex index, String name, FieldMetadata field) {
+        Element element = index.firstWithValue(name);
+        FieldConverter fieldConverter = FieldConverter.get(field);
+        if (ENTITY.equals(field.mappingType())) {
+            if (element != null) {
+                fieldConverter.convert(entity, element, field, this);
             }
-        };
+        } else {
+            fieldConverter.convert(entity, index.elements(), element, field, this);
+        }
     }
 
 
@@ -177,36 +178,35 @@ public abstract class EntityConverter {
 
     private <T> T convertEntityByConstructor(List<Element> elements, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
+        ElementIndex index = ElementIndex.of(elements);
         for (ParameterMetaData parameter : builder.parameters()) {
-            Predicate<Element> matchName = c -> c.name().equals(parameter.name());
             boolean isFlatEmbedded = EMBEDDED.equals(parameter.mappingType());
-            Optional<Element> element = elements.stream()
-                    .filter(matchName.or(e -> isFlatEmbedded))
-                    .findFirst();
-            element.ifPresentOrElse(c -> {
+            if (isFlatEmbedded && !elements.isEmpty()) {
+                var converter = ParameterConverter.of(parameter, entities());
+                converter.convert(this, Element.of("_", elements), parameter, builder);
+                continue;
+            }
+            Element element = isFlatEmbedded ? null : index.first(parameter.name());
+            if (element == null) {
+                builder.addEmptyParameter();
+            } else {
                 var converter = ParameterConverter.of(parameter, entities());
-                if (isFlatEmbedded) {
-                    converter.convert(this, Element.of("_", elements), parameter, builder);
-                } else {
-                    converter.convert(this, c, parameter, builder);
-                }
-            }, builder::addEmptyParameter);
+                converter.convert(this, element, parameter, builder);
+            }
         }
         return builder.build();
     }
 
     private <T> T convertEntity(List<Element> elements, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = elements.stream().map(Element::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            var type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type)|| EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
-
+        final ElementIndex index = ElementIndex.of(elements);
+        for (Map.Entry<String, FieldMetadata> entry : mapping.fieldsGroupByName().entrySet()) {
+            var field = entry.getValue();
+            var type = field.mappingType();
+            boolean isElementType = EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
+            if (isElementType || index.contains(entry.getKey())) {
+                feedObject(instance, index, entry.getKey(), field);
+            }
+        }
         return instance;
     }
 
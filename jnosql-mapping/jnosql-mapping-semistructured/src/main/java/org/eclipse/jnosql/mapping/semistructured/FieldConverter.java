@@ -77,8 +77,7 @@ enum FieldConverter {
 
             } else {
                 field.write(instance, converter.toEntity(field.type(),
-                        subElement.get(new TypeReference<List<Element>>() {
-                        })));
+                        subElement.get(ELEMENTS)));
             }
         }
     }, COLLECTION {
@@ -209,8 +208,7 @@ enum FieldConverter {
             AttributeConverter<X, Y> attributeConverter = converter.converters().get(field);
             Y attr = (Y) (value.isInstanceOf(List.class) ? element : value.get());
             if (isElement(attr)) {
-                var mapValue = value.get(new TypeReference<Map<String, Object>>() {
-                });
+                var mapValue = value.get(MAP_VALUE);
                 Object attributeConverted = attributeConverter.convertToEntityAttribute((Y) mapValue);
                 field.write(instance, field.value(Value.of(attributeConverted)));
             } else {
@@ -221,6 +219,10 @@ enum FieldConverter {
 
     };
 
+    private static final TypeReference<List<Element>> ELEMENTS = new TypeReference<>() {};
+
+    private static final TypeReference<Map<String, Object>> MAP_VALUE = new TypeReference<>() {};
+
     private static boolean feedEmbeddedList(Element element, EntityConverter converter, Class<?> type, Collection elements) {
         List<List<Element>> embeddable = (List<List<Element>>) element.get();
         if (Objects.isNull(embeddable)) {
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static org.eclipse.jnosql.communication.Configurations.PAGINATION_TOTAL;
+import static org.eclipse.jnosql.communication.Configurations.PAGINATION_TOTAL_CACHE;
+
+/**
+ * Creates the offset-based {@link Page} of a query. When
+ * {@link org.eclipse.jnosql.communication.Configurations#PAGINATION_TOTAL} is enabled and the {@link PageRequest}
+ * asks for the total, the count of the query runs on the executor of the template, see
+ * {@link AbstractSemiStructuredTemplate#pageTotalExecutor()}, while the page is fetched, so the total costs the
+ * slower of both round trips instead of their sum. When the page itself shows where the results end, the total is
+ * taken from it and the count is not awaited, although it has already been issued and completes in the background.
+ * Each {@link AbstractSemiStructuredTemplate} keeps its totals for the period defined at
+ * {@link org.eclipse.jnosql.communication.Configurations#PAGINATION_TOTAL_CACHE}, evicting the least recently used
+ * ones; {@link #of} counts on every page. Repositories go through
+ * {@link SemiStructuredTemplate#selectOffSet(SelectQuery, PageRequest, Supplier)}, so a template injected as a
+ * client proxy still pages with the totals of the underlying bean.
+ */
+public final class OffsetPages {
+
+    static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("jnosql-page-total").start(task);
+
+    private static final Logger LOGGER = Logger.getLogger(OffsetPages.class.getName());
+
+    private static final int MAX_TOTALS = 1_000;
+
+    private static final OffsetPages UNCACHED = new OffsetPages(() -> VIRTUAL_THREADS, false);
+
+    private final Supplier<Executor> executor;
+
+    private final Map<SelectQuery, Total> totals;
+
+    OffsetPages(Supplier<Executor> executor) {
+        this(executor, true);
+    }
+
+    private OffsetPages(Supplier<Executor> executor, boolean cache) {
+        this.executor = executor;
+        this.totals = cache ? Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SelectQuery, Total> eldest) {
+                return size() > MAX_TOTALS;
+            }
+        }) : null;
+    }
+
+    /**
+     * Creates the page from the content, adding the total of the query when it is enabled and requested, without
+     * keeping the totals.
+     *
+     * @param template    the template that counts the query
+     * @param query       the query of the page, its sorts, skip and limit are ignored at the count
+     * @param pageRequest the page request
+     * @param content     fetches the entities of the page
+     * @param <T>         the entity type
+     * @return the page
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <T> Page<T> of(SemiStructuredTemplate template, SelectQuery query, PageRequest pageRequest,
+                                 Supplier<List<T>> content) {
+        return UNCACHED.page(template, query, pageRequest, content);
+    }
+
+    <T> Page<T> page(SemiStructuredTemplate template, SelectQuery query, PageRequest pageRequest,
+                     Supplier<List<T>> content) {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        Objects.requireNonNull(content, "content is required");
+        if (!pageRequest.requestTotal() || !MicroProfileSettings.INSTANCE.get(PAGINATION_TOTAL, Boolean.class)
+                .orElse(false)) {
+            return NoSQLPage.of(content.get(), pageRequest);
+        }
+        var countQuery = new MappingQuery(List.of(), 0, 0, query.condition().orElse(null), query.name(), List.of());
+        long ttl = totals == null ? 0L : MicroProfileSettings.INSTANCE.get(PAGINATION_TOTAL_CACHE, Long.class)
+                .orElse(0L);
+        Total cached = ttl > 0 ? totals.get(countQuery) : null;
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            LOGGER.finest(() -> "Reusing the total of the query: " + countQuery);
+            return NoSQLPage.of(content.get(), pageRequest, cached.value());
+        }
+
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(() -> template.count(countQuery),
+                executor.get());
+        List<T> entities = content.get();
+        long total;
+        if (isLastPage(entities, pageRequest)) {
+            total = NoSQLPage.skip(pageRequest) + entities.size();
+        } else {
+            total = join(count);
+        }
+        if (ttl > 0) {
+            totals.put(countQuery, new Total(total, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl)));
+        }
+        return NoSQLPage.of(entities, pageRequest, total);
+    }
+
+    private static <T> boolean isLastPage(List<T> entities, PageRequest pageRequest) {
+        return entities.size() < pageRequest.size() && (!entities.isEmpty() || pageRequest.page() == 1);
+    }
+
+    private static long join(CompletableFuture<Long> count) {
+        try {
+            return count.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private record Total(long value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
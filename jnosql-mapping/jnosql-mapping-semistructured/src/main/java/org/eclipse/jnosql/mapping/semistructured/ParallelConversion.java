@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * How the rows of a select are converted into entities. With a parallelism of 1, each row is converted on the thread
+ * that consumes the stream. With a greater parallelism, a background thread reads the rows from the database and
+ * that many virtual threads convert them, at most {@code prefetch} rows ahead of the consumer; when
+ * {@code ordered} is set, the entities keep the order of the rows.
+ *
+ * <p>The stream of a parallel conversion must be closed, for instance with try-with-resources: closing it stops
+ * the reading, cancels the pending conversions and closes the database stream.</p>
+ *
+ * <pre>{@code
+ * try (Stream<Person> people = template.select(query, ParallelConversion.of(4))) {
+ *     people.forEach(exporter::write);
+ * }
+ * }</pre>
+ *
+ * @param parallelism the number of threads that convert the rows
+ * @param prefetch    the maximum number of rows read ahead of the consumer
+ * @param ordered     whether the entities keep the order of the rows
+ * @see SemiStructuredTemplate#select(org.eclipse.jnosql.communication.semistructured.SelectQuery, ParallelConversion)
+ */
+public record ParallelConversion(int parallelism, int prefetch, boolean ordered) {
+
+    /**
+     * The default number of rows read ahead of the consumer.
+     */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    /**
+     * Converts each row on the thread that consumes the stream.
+     */
+    public static final ParallelConversion SEQUENTIAL = new ParallelConversion(1, 1, true);
+
+    /**
+     * Creates the conversion.
+     *
+     * @throws IllegalArgumentException when the parallelism or the prefetch is lower than 1
+     */
+    public ParallelConversion {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        }
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("The prefetch must be greater than zero: " + prefetch);
+        }
+    }
+
+    /**
+     * Returns whether the rows are converted on the thread that consumes the stream.
+     *
+     * @return {@code true} when the parallelism is 1
+     */
+    public boolean isSequential() {
+        return parallelism == 1;
+    }
+
+    /**
+     * Converts the rows into entities.
+     *
+     * @param entities  the rows from the database
+     * @param converter the conversion of a row
+     * @param <T>       the entity type
+     * @return the entities
+     * @throws NullPointerException when entities or converter is null
+     */
+    public <T> Stream<T> apply(Stream<CommunicationEntity> entities, Function<CommunicationEntity, T> converter) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(converter, "converter is required");
+        if (isSequential()) {
+            return entities.map(converter);
+        }
+        return ConversionPipeline.of(entities, converter, this);
+    }
+
+    /**
+     * Creates an ordered conversion with the parallelism and the {@link #DEFAULT_PREFETCH}.
+     *
+     * @param parallelism the number of threads that convert the rows
+     * @return the conversion
+     * @throws IllegalArgumentException when the parallelism is lower than 1
+     */
+    public static ParallelConversion of(int parallelism) {
+        return new ParallelConversion(parallelism, DEFAULT_PREFETCH, true);
+    }
+}
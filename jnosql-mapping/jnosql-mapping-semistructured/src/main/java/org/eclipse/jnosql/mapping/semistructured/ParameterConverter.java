@@ -63,8 +63,7 @@ enum ParameterConverter {
                 builder.add(entity);
 
             } else {
-                List<Element> columns = element.get(new TypeReference<>() {
-                });
+                List<Element> columns = element.get(ELEMENTS);
                 Object entity = converter.toEntity(metaData.type(), columns);
                 builder.add(entity);
             }
@@ -139,6 +138,8 @@ enum ParameterConverter {
         }
     };
 
+    private static final TypeReference<List<Element>> ELEMENTS = new TypeReference<>() {};
+
     abstract void convert(EntityConverter converter,
                           Element element, ParameterMetaData metaData,
                           ConstructorBuilder builder);
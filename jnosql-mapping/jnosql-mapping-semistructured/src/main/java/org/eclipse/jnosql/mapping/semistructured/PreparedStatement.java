@@ -59,15 +59,14 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
 
     @Override
     public <T> Stream<T> result() {
-        Function<T, T> fieldMapper = SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata);
-        return preparedStatement.result().<T>map(converter::toEntity).map(fieldMapper);
+        Function<CommunicationEntity, T> mapper = SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata, converter);
+        return preparedStatement.result().map(mapper);
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         Optional<CommunicationEntity> singleResult = preparedStatement.singleResult();
-        Optional<T> result = singleResult.map(converter::toEntity);
-        return result.map(SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata));
+        return singleResult.map(SelectFieldMapper.INSTANCE.<T>map(observer, entitiesMetadata, converter));
     }
 
     @Override
@@ -80,6 +79,11 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return selectQuery().map(SelectQuery::isCount).orElse(false);
     }
 
+    @Override
+    public boolean isUpdate() {
+        return preparedStatement.isUpdate();
+    }
+
     /**
      * Optionally returns the underlying {@link SelectQuery} associated with this PreparedStatement,
      * if applicable.
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.ProjectionBuilder;
+import org.eclipse.jnosql.mapping.metadata.ProjectionConstructorMetadata;
+import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
+import org.eclipse.jnosql.mapping.metadata.ProjectionParameterMetadata;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A projection compiled for one entity type. Each constructor parameter keeps its path already split, the
+ * {@link FieldMetadata} of the first segment resolved from the entity and the conversion to the parameter type,
+ * so mapping an entity only reads the fields. The nested segments are resolved from the class of the value read,
+ * which is cached by segment, and resolved again only when that class changes, such as with a subclass.
+ */
+final class Projector {
+
+    private static final Logger LOGGER = Logger.getLogger(Projector.class.getName());
+
+    private final ProjectionConstructorMetadata constructor;
+
+    private final ParameterReader[] readers;
+
+    private Projector(ProjectionConstructorMetadata constructor, ParameterReader[] readers) {
+        this.constructor = constructor;
+        this.readers = readers;
+    }
+
+    /**
+     * Creates the projection of the entity.
+     *
+     * @param entity the entity, an instance of the type this projector was compiled for
+     * @param <P>    the projection type
+     * @return the projection
+     */
+    <P> P map(Object entity) {
+        var builder = ProjectionBuilder.of(constructor);
+        for (ParameterReader reader : readers) {
+            reader.read(entity, builder);
+        }
+        return builder.build();
+    }
+
+    static Projector of(EntityMetadata entityMetadata, ProjectionMetadata metadata,
+                        EntitiesMetadata entitiesMetadata) {
+        var constructor = metadata.constructor();
+        List<ProjectionParameterMetadata> parameters = constructor.parameters();
+        var readers = new ParameterReader[parameters.size()];
+        for (int index = 0; index < readers.length; index++) {
+            readers[index] = ParameterReader.of(entityMetadata, parameters.get(index), entitiesMetadata);
+        }
+        return new Projector(constructor, readers);
+    }
+
+    private static final class ParameterReader {
+
+        private final Class<?> type;
+
+        private final Class<?> boxed;
+
+        private final FieldMetadata field;
+
+        private final PathSegment[] segments;
+
+        private ParameterReader(Class<?> type, FieldMetadata field, PathSegment[] segments) {
+            this.type = type;
+            this.boxed = boxed(type);
+            this.field = field;
+            this.segments = segments;
+        }
+
+        void read(Object entity, ProjectionBuilder builder) {
+            if (field == null) {
+                builder.addEmptyParameter();
+                return;
+            }
+            Object value = field.read(entity);
+            for (PathSegment segment : segments) {
+                if (value == null) {
+                    break;
+                }
+                FieldMetadata nested = segment.field(value.getClass());
+                value = nested == null ? null : nested.read(value);
+            }
+            if (value == null) {
+                builder.addEmptyParameter();
+            } else if (boxed.isInstance(value)) {
+                builder.add(value);
+            } else {
+                builder.add(Value.of(value).get(type));
+            }
+        }
+
+        static ParameterReader of(EntityMetadata entityMetadata, ProjectionParameterMetadata parameter,
+                                  EntitiesMetadata entitiesMetadata) {
+            String name = parameter.name();
+            String[] names = name.split("\\.");
+            FieldMetadata field = entityMetadata.fieldMapping(names[0]).orElse(null);
+            if (field == null) {
+                LOGGER.warning(() -> "Field metadata not found for parameter: " + name);
+            }
+            var segments = new PathSegment[names.length - 1];
+            for (int index = 1; index < names.length; index++) {
+                segments[index - 1] = new PathSegment(names[index], entitiesMetadata);
+            }
+            return new ParameterReader(parameter.type(), field, segments);
+        }
+
+        private static Class<?> boxed(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            return MethodType.methodType(type).wrap().returnType();
+        }
+    }
+
+    private static final class PathSegment {
+
+        private final String name;
+
+        private final EntitiesMetadata entitiesMetadata;
+
+        private volatile Resolution resolution;
+
+        private PathSegment(String name, EntitiesMetadata entitiesMetadata) {
+            this.name = name;
+            this.entitiesMetadata = entitiesMetadata;
+        }
+
+        FieldMetadata field(Class<?> type) {
+            Resolution current = resolution;
+            if (current == null || current.type() != type) {
+                current = resolve(type);
+                resolution = current;
+            }
+            return current.field();
+        }
+
+        private Resolution resolve(Class<?> type) {
+            EntityMetadata metadata = entitiesMetadata.get(type);
+            if (metadata == null) {
+                throw new IllegalArgumentException("Entity metadata not found for " + type);
+            }
+            FieldMetadata field = metadata.fieldMapping(name).orElse(null);
+            if (field == null) {
+                LOGGER.warning(() -> "Field metadata not found for parameter: " + name + " in " + type);
+            }
+            return new Resolution(type, field);
+        }
+    }
+
+    private record Resolution(Class<?> type, FieldMetadata field) {
+    }
+}
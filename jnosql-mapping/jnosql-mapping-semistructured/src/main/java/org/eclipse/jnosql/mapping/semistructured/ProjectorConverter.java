@@ -17,22 +17,18 @@ package org.eclipse.jnosql.mapping.semistructured;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
-import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
-import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
-import org.eclipse.jnosql.mapping.metadata.ProjectionBuilder;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
 
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A converter that transforms an entity into a projection based on the provided metadata. This class is designed to be
  * used in a Jakarta EE environment, specifically within an application scope.
+ * Each projection is compiled once per entity type into a {@link Projector} and reused by the next conversions.
  **/
 @ApplicationScoped
 public class ProjectorConverter {
@@ -41,6 +37,8 @@ public class ProjectorConverter {
 
     private final EntitiesMetadata entitiesMetadata;
 
+    private final Map<ProjectorKey, Projector> projectors = new ConcurrentHashMap<>();
+
 
     @Inject
     public ProjectorConverter(EntitiesMetadata entitiesMetadata) {
@@ -62,55 +60,18 @@ public class ProjectorConverter {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(metadata, "metadata is required");
         LOGGER.fine(() -> "Converting entity " + entity + " to " + metadata);
-        var entityMetadata = entitiesMetadata.get(entity.getClass());
-        if (entityMetadata == null) {
-            throw new IllegalArgumentException("Entity metadata not found for " + entity.getClass());
-        }
-
-        var constructor = metadata.constructor();
-        var builder = ProjectionBuilder.of(constructor);
-
-        for (var parameter : constructor.parameters()) {
-            String name = parameter.name();
-            Optional<Object> value = value(entityMetadata, name, entity);
-            if (value.isEmpty()) {
-                LOGGER.warning(() -> "Field metadata not found for parameter: " + name);
-                builder.addEmptyParameter();
-            } else {
-                var parameterValue = value.orElseThrow();
-                Class<?> parameterType = parameter.type();
-                var converted = Value.of(parameterValue).get(parameterType);
-                builder.add(converted);
-            }
-        }
-        return builder.build();
+        return projectors.computeIfAbsent(new ProjectorKey(entity.getClass(), metadata), this::projector)
+                .map(entity);
     }
 
-    private <T> Optional<Object> value(EntityMetadata entityMetadata, String name, T entity) {
-        String[] names = name.split("\\.");
-        if (names.length == 1) {
-            Optional<FieldMetadata> metadata = entityMetadata.fieldMapping(names[0]);
-            return metadata.map(f -> f.read(entity));
-        } else {
-            String first = names[0];
-
-            Optional<FieldMetadata> fieldMetadata = entityMetadata.fieldMapping(first);
-            if (fieldMetadata.isEmpty()) {
-                return Optional.empty();
-            }
-            var field = fieldMetadata.orElseThrow();
-            Object read = field.read(entity);
-            if (read == null) {
-                return Optional.empty();
-            }
-            var embeddedField = entitiesMetadata.get(read.getClass());
-            if (embeddedField == null) {
-                throw new IllegalArgumentException("Entity metadata not found for " + read.getClass());
-            }
-            var embeddedName = Stream.of(names).skip(1).collect(Collectors.joining("."));
-            return value(embeddedField, embeddedName, read);
-
+    private Projector projector(ProjectorKey key) {
+        var entityMetadata = entitiesMetadata.get(key.type());
+        if (entityMetadata == null) {
+            throw new IllegalArgumentException("Entity metadata not found for " + key.type());
         }
+        return Projector.of(entityMetadata, key.metadata(), entitiesMetadata);
     }
 
+    private record ProjectorKey(Class<?> type, ProjectionMetadata metadata) {
+    }
 }
@@ -14,17 +14,79 @@
  */
 package org.eclipse.jnosql.mapping.semistructured;
 
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 enum SelectFieldMapper {
 
     INSTANCE;
 
+    private static final TypeReference<Map<String, Object>> MAP_VALUE = new TypeReference<>() {};
+
+    /**
+     * Creates the mapper of the query results when the query selects fields. When every selected field is a basic
+     * field of the entity, the values are read from the {@link CommunicationEntity} and only they are converted,
+     * without creating the entity. Otherwise, as with a row that lacks one of the fields, the entity is created and
+     * the fields are read from it.
+     *
+     * @param observer  the observer of the query parser, with the selected fields
+     * @param entities  the entities metadata
+     * @param converter the entity converter
+     * @param <T>       the result type
+     * @return the mapper from the database entity to the result
+     */
+    @SuppressWarnings("unchecked")
+    <T> Function<CommunicationEntity, T> map(MapperObserver observer, EntitiesMetadata entities,
+                                             EntityConverter converter) {
+        Function<CommunicationEntity, T> entityMapper = converter::toEntity;
+        if (observer.fields().isEmpty()) {
+            return entityMapper;
+        }
+        Function<T, T> fieldMapper = map(observer, entities);
+        Function<CommunicationEntity, T> fallback = entityMapper.andThen(fieldMapper);
+        EntityMetadata metadata = entities.findByName(observer.entity());
+        List<FieldMetadata> fields = new ArrayList<>();
+        for (String field : observer.fields()) {
+            Optional<FieldMetadata> fieldMetadata = metadata.fieldMapping(field).filter(this::isBasic);
+            if (fieldMetadata.isEmpty()) {
+                return fallback;
+            }
+            fields.add(fieldMetadata.orElseThrow());
+        }
+        if (fields.size() == 1) {
+            var field = fields.getFirst();
+            return entity -> {
+                Optional<Element> element = entity.find(field.name());
+                return element.isPresent() ? (T) value(element.orElseThrow(), field, converter)
+                        : fallback.apply(entity);
+            };
+        }
+        return entity -> {
+            Object[] values = new Object[fields.size()];
+            for (int index = 0; index < values.length; index++) {
+                var field = fields.get(index);
+                Optional<Element> element = entity.find(field.name());
+                if (element.isEmpty()) {
+                    return fallback.apply(entity);
+                }
+                values[index] = value(element.orElseThrow(), field, converter);
+            }
+            return (T) values;
+        };
+    }
+
     <T> Function<T, T> map(MapperObserver observer, EntitiesMetadata entitiesMetadata) {
         if (observer.fields().isEmpty()) {
             return Function.identity();
@@ -55,4 +117,21 @@ enum SelectFieldMapper {
         var value = fieldMetadata.read(entity);
         return (T) value;
     }
+
+    private boolean isBasic(FieldMetadata field) {
+        return FieldConverter.get(field) == FieldConverter.DEFAULT;
+    }
+
+    /**
+     * Converts the element as {@link FieldConverter#DEFAULT} does when it writes the field.
+     */
+    private Object value(Element element, FieldMetadata field, EntityConverter converter) {
+        Value value = element.value();
+        if (field.converter().isEmpty()) {
+            return field.value(value);
+        }
+        AttributeConverter<Object, Object> attributeConverter = converter.converters().get(field);
+        Object attribute = value.isInstanceOf(List.class) ? value.get(MAP_VALUE) : value.get();
+        return field.value(Value.of(attributeConverter.convertToEntityAttribute(attribute)));
+    }
 }
@@ -18,7 +18,10 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 
@@ -159,6 +162,25 @@ public interface SemiStructuredTemplate extends Template {
      */
     <T> Stream<T> select(SelectQuery query);
 
+    /**
+     * Finds entities from query, converting the rows into entities as the {@link ParallelConversion} defines.
+     * A parallel conversion reads the rows ahead on a background thread, so the returned stream must be closed.
+     * The other operations of the template, such as {@link #select(SelectQuery)}, always convert the rows on the
+     * thread that consumes the stream.
+     * <p>The default implementation does not convert in parallel: it ignores the conversion and calls
+     * {@link #select(SelectQuery)}, so the rows are converted sequentially whatever the conversion asks for.</p>
+     *
+     * @param query      query to figure out entities
+     * @param conversion how the rows are converted into entities
+     * @param <T>        the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query or conversion is null
+     */
+    default <T> Stream<T> select(SelectQuery query, ParallelConversion conversion) {
+        Objects.requireNonNull(conversion, "conversion is required");
+        return select(query);
+    }
+
     /**
      * Returns the number of items in the column family that match a specified query.
      * @param query the query
@@ -256,4 +278,22 @@ public interface SemiStructuredTemplate extends Template {
      * @throws NullPointerException if the query or pageRequest is null
      */
     <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Creates the offset-based page of the query from entities that are already fetched by the caller, such as a
+     * repository that maps the results itself. When {@link org.eclipse.jnosql.communication.Configurations#PAGINATION_TOTAL}
+     * is enabled and the {@link PageRequest} asks for the total, this template counts the query, see {@link OffsetPages}.
+     *
+     * <p>The default implementation counts on every page; templates that keep the totals override it.</p>
+     *
+     * @param query       the query of the page, its sorts, skip and limit are ignored at the count
+     * @param pageRequest the page request
+     * @param content     fetches the entities of the page
+     * @param <T>         the entity type
+     * @return a {@link Page} instance containing the entities of the content, along with paging information
+     * @throws NullPointerException if any parameter is null
+     */
+    default <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest, Supplier<List<T>> content) {
+        return OffsetPages.of(this, query, pageRequest, content);
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Flow.Publisher} over a blocking {@link Stream}. The stream is opened on the executor at the first
+ * positive request of the subscriber, and its thread waits for the demand before reading each entity, so the
+ * database cursor advances only as fast as the subscriber consumes. A request that is not positive before the
+ * stream is opened fails the subscription without opening it.
+ *
+ * @param <T> the entity type
+ */
+final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Stream<T>> source;
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    StreamPublisher(Supplier<Stream<T>> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new StreamSubscription<>(subscriber, Stream::empty, executor));
+            subscriber.onError(new IllegalStateException("This publisher accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new StreamSubscription<>(subscriber, source, executor));
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Supplier<Stream<T>> source;
+
+        private final Executor executor;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition demanded = lock.newCondition();
+
+        private long demand;
+
+        private boolean cancelled;
+
+        private Throwable failure;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber, Supplier<Stream<T>> source,
+                                   Executor executor) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0 && started.compareAndSet(false, true)) {
+                lock.lock();
+                try {
+                    cancelled = true;
+                } finally {
+                    lock.unlock();
+                }
+                subscriber.onError(new IllegalArgumentException("The request must be positive: " + n));
+                return;
+            }
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("The request must be positive: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (started.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            try (Stream<T> stream = source.get()) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    if (!awaitDemand()) {
+                        return;
+                    }
+                    subscriber.onNext(iterator.next());
+                }
+                if (awaitEnd()) {
+                    subscriber.onComplete();
+                }
+            } catch (RuntimeException exception) {
+                if (!isCancelled()) {
+                    subscriber.onError(exception);
+                }
+            }
+        }
+
+        private boolean awaitDemand() {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled && failure == null) {
+                    demanded.await();
+                }
+                if (failure != null && !cancelled) {
+                    cancelled = true;
+                    subscriber.onError(failure);
+                    return false;
+                }
+                if (cancelled) {
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+                subscriber.onError(exception);
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean awaitEnd() {
+            lock.lock();
+            try {
+                if (failure != null && !cancelled) {
+                    cancelled = true;
+                    subscriber.onError(failure);
+                    return false;
+                }
+                return !cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCancelled() {
+            lock.lock();
+            try {
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -19,26 +19,48 @@ import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.semistructured.MappingDeleteQuery;
 import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
- * The {@link org.eclipse.jnosql.mapping.NoSQLRepository} template method
+ * The {@link org.eclipse.jnosql.mapping.NoSQLRepository} template method.
+ * <p>
+ * The operations by a set of ids run as set-based queries: {@link #findByIdIn(Iterable)} and
+ * {@link #deleteByIdIn(Iterable)} send one query with an {@code IN} condition for each chunk of
+ * {@link #batchSize()} ids, and {@link #saveAll(List)} selects which ids are stored in the same way before one bulk
+ * insert and one bulk update. Each id goes through the {@link jakarta.nosql.Convert attribute converter} of the id,
+ * when it has one, before it is sent.
+ * </p>
  */
 public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRepository<T, K> {
 
     @Override
     protected abstract SemiStructuredTemplate template();
 
+    /**
+     * Retrieves the Converters instance that converts the ids to the database format.
+     *
+     * @return The Converters instance.
+     */
+    protected abstract Converters converters();
+
     @Override
     public long countBy() {
         return template().count(type());
@@ -58,8 +80,36 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
                 pageRequest.size(), NoSQLPage.skip(pageRequest)
                 , null ,metadata.name(), List.of());
 
-        List<T> entities = template().<T>select(query).toList();
-        return NoSQLPage.of(entities, pageRequest);
+        return template().selectOffSet(query, pageRequest, () -> template().<T>select(query).toList());
+    }
+
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        return chunks(ids).stream().flatMap(chunk -> template().<T>select(selectByIds(chunk, List.of())));
+    }
+
+    @Override
+    public void deleteByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        for (List<Object> chunk : chunks(ids)) {
+            template().delete(new MappingDeleteQuery(entityMetadata().name(), byIds(chunk)));
+        }
+    }
+
+    @Override
+    protected Set<Object> existingIds(List<Object> ids) {
+        EntityMetadata metadata = entityMetadata();
+        FieldMetadata idField = getIdField();
+        List<String> columns = metadata.constructor().isDefault() && metadata.inheritance().isEmpty()
+                ? List.of(idField.name()) : List.of();
+        Set<Object> existing = new HashSet<>();
+        for (List<Object> chunk : chunks(ids)) {
+            try (Stream<T> entities = template().select(selectByIds(chunk, columns))) {
+                entities.map(idField::read).filter(Objects::nonNull).forEach(existing::add);
+            }
+        }
+        return existing;
     }
 
     @Override
@@ -72,4 +122,37 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
         template().deleteAll(type());
     }
 
+    private <I> List<List<Object>> chunks(Iterable<I> ids) {
+        int batchSize = batchSize();
+        FieldMetadata idField = getIdField();
+        Converters converters = converters();
+        List<List<Object>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>();
+        for (I id : ids) {
+            Objects.requireNonNull(id, "id is required");
+            chunk.add(ConverterUtil.getValue(id, converters, idField));
+            if (chunk.size() == batchSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private SelectQuery selectByIds(List<Object> ids, List<String> columns) {
+        return new MappingQuery(List.of(), 0, 0, byIds(ids), entityMetadata().name(), columns);
+    }
+
+    private CriteriaCondition byIds(List<Object> ids) {
+        EntityMetadata metadata = entityMetadata();
+        CriteriaCondition condition = CriteriaCondition.in(Element.of(getIdField().name(), ids));
+        return metadata.inheritance()
+                .filter(inheritance -> !inheritance.parent().equals(metadata.type()))
+                .map(inheritance -> CriteriaCondition.eq(Element.of(inheritance.discriminatorColumn(),
+                        inheritance.discriminatorValue())).and(condition))
+                .orElse(condition);
+    }
 }
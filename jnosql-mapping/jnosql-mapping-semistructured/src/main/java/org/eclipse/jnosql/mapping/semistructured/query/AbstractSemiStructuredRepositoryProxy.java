@@ -186,7 +186,7 @@ public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSe
         LOGGER.finest("Executing delete restriction on method: " + method);
         Restriction<?> restriction = restriction(params);
         var entity = entityMetadata().name();
-        Optional<CriteriaCondition> condition = RestrictionConverter.INSTANCE.parser(restriction, entityMetadata(), converters());
+        Optional<CriteriaCondition> condition = RestrictionConverter.INSTANCE.parser(restriction, restrictionAttributes());
         var deleteQuery = new MappingDeleteQuery(entity, condition.orElse(null));
         this.template().delete(deleteQuery);
         return Void.class;
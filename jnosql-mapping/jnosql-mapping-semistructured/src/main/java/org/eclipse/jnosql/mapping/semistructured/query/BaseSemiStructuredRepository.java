@@ -21,19 +21,21 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.Select;
 import jakarta.data.restrict.Restriction;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.DeleteQueryParser;
+import org.eclipse.jnosql.communication.semistructured.DeleteQueryTemplate;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
+import org.eclipse.jnosql.communication.semistructured.SelectQueryTemplate;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
+import org.eclipse.jnosql.mapping.core.query.RepositoryMethodPlan;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
@@ -41,6 +43,7 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
 import org.eclipse.jnosql.mapping.semistructured.ProjectorConverter;
@@ -50,10 +53,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -75,6 +79,8 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
 
     private ProjectorConverter projectorConverter;
 
+    private RestrictionConverter.Attributes restrictionAttributes;
+
 
     /**
      * Retrieves the Converters instance responsible for converting data types.
@@ -110,6 +116,18 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         return projectorConverter;
     }
 
+    /**
+     * Retrieves the attributes of the restrictions of this repository, resolved once each against its entity.
+     *
+     * @return The attributes of the entity.
+     */
+    RestrictionConverter.Attributes restrictionAttributes() {
+        if (Objects.isNull(restrictionAttributes)) {
+            this.restrictionAttributes = RestrictionConverter.INSTANCE.attributes(entityMetadata(), converters());
+        }
+        return restrictionAttributes;
+    }
+
     /**
      * Retrieves the SemistructuredTemplate instance for executing column queries.
      *
@@ -117,28 +135,63 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
      */
     protected abstract SemiStructuredTemplate template();
 
+    /**
+     * Creates the query of a query method. The method is parsed and compiled into a {@link SelectQueryTemplate} once,
+     * kept with its {@link #plan(Method)}, so each call only binds the arguments into a new query.
+     *
+     * @param method the repository method
+     * @param args   the method arguments
+     * @return the query of the method with the arguments
+     */
     protected SelectQuery query(Method method, Object[] args) {
-        var provider = SelectMethodProvider.INSTANCE;
-        var selectQuery = provider.apply(method, entityMetadata().name());
-        var queryParams = SELECT_PARSER.apply(selectQuery, parser());
-        var query = queryParams.query();
-        var params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return updateQueryDynamically(args(args), query);
+        Function<Object[], SelectQuery> template = methodPlan(method).selectTemplate(this::selectTemplate);
+        return updateQueryDynamically(args(args), template.apply(args(args)));
+    }
+
+    /**
+     * Creates a {@link SemiStructuredMethodPlan}, which keeps the query template and the result mapper of the method.
+     *
+     * @param method the repository method
+     * @return the invocation plan
+     */
+    @Override
+    protected final RepositoryMethodPlan createPlan(Method method) {
+        return new SemiStructuredMethodPlan(method, repositoryType());
+    }
+
+    private SemiStructuredMethodPlan methodPlan(Method method) {
+        return (SemiStructuredMethodPlan) plan(method);
     }
 
     private static Object[] args(Object[] args) {
         return args == null ? EMPTY_PARAM : args;
     }
 
+    /**
+     * Creates the delete query of a delete method. Like {@link #query(Method, Object[])}, the method is compiled
+     * once into a {@link DeleteQueryTemplate}.
+     *
+     * @param method the repository method
+     * @param args   the method arguments
+     * @return the delete query of the method with the arguments
+     */
     protected DeleteQuery deleteQuery(Method method, Object[] args) {
-        var deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        var deleteQuery = deleteMethodFactory.apply(method, entityMetadata().name());
-        var queryParams = DELETE_PARSER.apply(deleteQuery, parser());
-        var query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return query;
+        Function<Object[], DeleteQuery> template = methodPlan(method).deleteTemplate(this::deleteTemplate);
+        return template.apply(args(args));
+    }
+
+    private Function<Object[], SelectQuery> selectTemplate(Method method) {
+        var selectQuery = SelectMethodProvider.INSTANCE.apply(method, entityMetadata().name());
+        SelectQueryTemplate template = SELECT_PARSER.apply(selectQuery, parser()).template();
+        Function<Object[], Object[]> binder = paramsBinder().binder(template.parameters(), method);
+        return args -> template.bind(binder.apply(args));
+    }
+
+    private Function<Object[], DeleteQuery> deleteTemplate(Method method) {
+        var deleteQuery = DeleteMethodProvider.INSTANCE.apply(method, entityMetadata().name());
+        DeleteQueryTemplate template = DELETE_PARSER.apply(deleteQuery, parser()).template();
+        Function<Object[], Object[]> binder = paramsBinder().binder(template.parameters(), method);
+        return args -> template.bind(binder.apply(args));
     }
 
     /**
@@ -167,7 +220,8 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
     }
 
     @SuppressWarnings("unchecked")
-    protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, SelectQuery query) {
+    protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, SelectQuery selectQuery) {
+        var query = includeColumns(method, selectQuery);
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .classSource(typeClass)
                 .methodSource(method)
@@ -187,25 +241,47 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         return dynamicReturn.execute();
     }
 
+    /**
+     * Returns the mapper of the query results of the method: a projection, the field defined at {@link Select},
+     * or the entity itself. The mapper is created once per method and kept with its {@link #plan(Method)},
+     * so the mapping of each result does not use reflection to inspect the method.
+     *
+     * @param method the repository method
+     * @param <E>    the result type
+     * @return the result mapper
+     */
     @SuppressWarnings("unchecked")
     protected <E> Function<Object, E> mapper(Method method) {
-        return value -> {
-            var returnType = returnType(method);
-            Optional<ProjectionMetadata> projection = this.entitiesMetadata().projection(returnType);
-            if (projection.isPresent()) {
-                ProjectionMetadata projectionMetadata = projection.orElseThrow();
-                return projectorConverter().map(value, projectionMetadata);
-            }
-            Select[] annotations = method.getAnnotationsByType(Select.class);
-            if (annotations.length == 1) {
-                String fieldReturn = annotations[0].value();
-                Optional<EntityMetadata> valueEntityMetadata = entitiesMetadata().findByClassName(value.getClass().getName());
-                return (E) valueEntityMetadata
-                        .map(entityMetadata -> value(entityMetadata, fieldReturn, value))
-                        .orElse(value);
-            }
-            return (E) value;
-        };
+        return (Function<Object, E>) methodPlan(method).resultMapper(this::createMapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> Function<Object, E> createMapper(Method method) {
+        var returnType = returnType(method);
+        Optional<ProjectionMetadata> projection = this.entitiesMetadata().projection(returnType);
+        if (projection.isPresent()) {
+            ProjectionMetadata projectionMetadata = projection.orElseThrow();
+            return value -> projectorConverter().map(value, projectionMetadata);
+        }
+        Select[] annotations = method.getAnnotationsByType(Select.class);
+        if (annotations.length == 1) {
+            return (Function<Object, E>) new SelectMapper(annotations[0].value());
+        }
+        return value -> (E) value;
+    }
+
+    /**
+     * When the method reads a single field, defined at {@link Select}, it includes the column of the field at the
+     * query, so the database returns only that column and the entity is created with only that field.
+     */
+    private SelectQuery includeColumns(Method method, SelectQuery query) {
+        Function<Object, Object> mapper = mapper(method);
+        if (query.columns().isEmpty() && mapper instanceof BaseSemiStructuredRepository<?, ?>.SelectMapper selectMapper
+                && !selectMapper.columns.isEmpty()) {
+            return new MappingQuery(query.sorts(), query.limit(), query.skip(), query.condition().orElse(null),
+                    query.name(), selectMapper.columns);
+        }
+        return query;
     }
 
     private Class<?> returnType(Method method) {
@@ -213,7 +289,11 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         if (typeClass.isArray()) {
             return typeClass.getComponentType();
         } else if (Iterable.class.isAssignableFrom(typeClass) || Stream.class.isAssignableFrom(typeClass) || Optional.class.isAssignableFrom(typeClass)) {
-            return (Class<?>) ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+            if (method.getGenericReturnType() instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> argument) {
+                return argument;
+            }
+            return Object.class;
         }
         return typeClass;
     }
@@ -245,10 +325,10 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
     }
 
     protected Function<PageRequest, Page<T>> getPage(SelectQuery query, Method method) {
-        return p -> {
+        return p -> template().selectOffSet(query, p, () -> {
             Stream<T> entities = template().select(query).map(mapper(method));
-            return NoSQLPage.of(entities.toList(), p);
-        };
+            return entities.toList();
+        });
     }
 
     protected Function<PageRequest, Optional<T>> getSingleResult(SelectQuery query, Method method) {
@@ -328,7 +408,7 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         Restriction<?> restriction = special.restriction().orElseThrow();
 
         CriteriaCondition conditionConverted = RestrictionConverter.INSTANCE.parser(restriction,
-                entityMetadata(), converters()).orElse(null);
+                restrictionAttributes()).orElse(null);
         SelectQuery updateQuery = selectQuery;
         if (conditionConverted != null) {
             var conditionOptional = selectQuery.condition();
@@ -349,22 +429,61 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         return property -> parser().fireSortProperty(entityMetadata().name(), property);
     }
 
-    private Object value(EntityMetadata entityMetadata, String returnName, Object value) {
-        var names = returnName.split("\\.");
-        Optional<FieldMetadata> fieldMetadata = entityMetadata.fieldMapping(names[0]);
-        if (fieldMetadata.isPresent()) {
-            var field = fieldMetadata.orElseThrow();
-            var convertedField = field.read(value);
-            if (convertedField != null && names.length > 1) {
-                var subField = Stream.of(names).skip(1).collect(Collectors.joining("."));
-                var subEntityMetadata = entitiesMetadata().findByClassName(convertedField.getClass().getName())
-                        .orElseThrow(() -> new IllegalArgumentException("Entity metadata not found for " + convertedField.getClass()));
-                return value(subEntityMetadata, subField, convertedField);
+    /**
+     * Reads the field defined at {@link Select} from each result. The path of the field is split once, and the
+     * entity metadata is looked up once per result class.
+     */
+    private final class SelectMapper implements Function<Object, Object> {
+
+        private final String[] names;
+
+        private final Map<Class<?>, Optional<EntityMetadata>> metadata = new ConcurrentHashMap<>();
+
+        private final List<String> columns;
+
+        private SelectMapper(String fieldReturn) {
+            this.names = fieldReturn.split("\\.");
+            this.columns = columns(entityMetadata());
+        }
 
+        private List<String> columns(EntityMetadata entityMetadata) {
+            Optional<FieldMetadata> field = entityMetadata.fieldMapping(names[0]);
+            if (field.isEmpty() || MappingType.EMBEDDED.equals(field.orElseThrow().mappingType())) {
+                return List.of();
             }
-            return convertedField == null ? value : convertedField;
+            List<String> result = new ArrayList<>();
+            result.add(field.orElseThrow().name());
+            entityMetadata.inheritance().map(InheritanceMetadata::discriminatorColumn)
+                    .filter(column -> !result.contains(column))
+                    .ifPresent(result::add);
+            return List.copyOf(result);
+        }
+
+        @Override
+        public Object apply(Object value) {
+            return metadata(value.getClass())
+                    .map(entityMetadata -> value(entityMetadata, 0, value))
+                    .orElse(value);
         }
-        return value;
-    }
 
+        private Optional<EntityMetadata> metadata(Class<?> type) {
+            return metadata.computeIfAbsent(type, t -> entitiesMetadata().findByClassName(t.getName()));
+        }
+
+        private Object value(EntityMetadata entityMetadata, int index, Object value) {
+            Optional<FieldMetadata> fieldMetadata = entityMetadata.fieldMapping(names[index]);
+            if (fieldMetadata.isPresent()) {
+                var field = fieldMetadata.orElseThrow();
+                var convertedField = field.read(value);
+                if (convertedField != null && index + 1 < names.length) {
+                    var subEntityMetadata = metadata(convertedField.getClass())
+                            .orElseThrow(() -> new IllegalArgumentException("Entity metadata not found for " + convertedField.getClass()));
+                    return value(subEntityMetadata, index + 1, convertedField);
+
+                }
+                return convertedField == null ? value : convertedField;
+            }
+            return value;
+        }
+    }
 }
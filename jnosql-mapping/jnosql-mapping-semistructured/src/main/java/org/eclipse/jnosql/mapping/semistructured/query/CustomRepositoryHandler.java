@@ -19,11 +19,11 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.repository.Find;
 import jakarta.data.repository.Query;
-import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.communication.semistructured.QueryType;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.core.query.AnnotationOperation;
+import org.eclipse.jnosql.mapping.core.query.RepositoryMethodPlan;
 import org.eclipse.jnosql.mapping.core.query.RepositoryType;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturnConverter;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
@@ -41,6 +41,8 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -75,6 +77,10 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     private final AbstractSemiStructuredRepositoryProxy<?, ?> defaultRepository;
 
+    private final Map<Method, RepositoryMethodPlan> plans = new ConcurrentHashMap<>();
+
+    private final Map<Method, AbstractSemiStructuredRepositoryProxy<?, ?>> repositories = new ConcurrentHashMap<>();
+
     protected CustomRepositoryHandler(EntitiesMetadata entitiesMetadata, SemiStructuredTemplate template,
                             Class<?> customRepositoryType,
                             Converters converters) {
@@ -88,7 +94,8 @@ public class CustomRepositoryHandler implements InvocationHandler {
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, customRepositoryType);
+        RepositoryMethodPlan plan = plans.computeIfAbsent(method, m -> RepositoryMethodPlan.of(m, customRepositoryType));
+        RepositoryType type = plan.type();
         LOGGER.fine(() -> "Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
 
         switch (type) {
@@ -123,7 +130,7 @@ public class CustomRepositoryHandler implements InvocationHandler {
                 return unwrapInvocationTargetException(() -> repository(method).executeFindByQuery(instance, method, params));
             }
             case CUSTOM_REPOSITORY -> {
-                Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
+                Object customRepository = plan.customRepository();
                 return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
             }
             case QUERY -> {
@@ -147,8 +154,12 @@ public class CustomRepositoryHandler implements InvocationHandler {
                     if (prepare.isCount()) {
                         return prepare.count();
                     }
+                    if (prepare.isUpdate()) {
+                        long updated = prepare.count();
+                        return toResultOfQueryMethod(method, () -> updated);
+                    }
                     Stream<?> entities = prepare.result();
-                    return toResultOfQueryMethod(method, entities);
+                    return toResultOfQueryMethod(method, entities::count);
                 } else if (repositoryMetadata.metadata().isPresent()) {
                     return unwrapInvocationTargetException(() -> repository(method).executeQuery(instance, method, params));
                 } else {
@@ -179,12 +190,12 @@ public class CustomRepositoryHandler implements InvocationHandler {
      * @return {@code Void.class} if {@code void} return type.
      *         Number of entities if {@code int} or {@code long}.
      */
-    private Object toResultOfQueryMethod(Method method, Stream<?> entities) {
+    private Object toResultOfQueryMethod(Method method, LongSupplier count) {
         if(returnsLong(method)) {
-            return entities.count();
+            return count.getAsLong();
         }
         if (returnsInt(method)) {
-            return (int)entities.count();
+            return (int) count.getAsLong();
         }
         return Void.class;
     }
@@ -241,6 +252,15 @@ public class CustomRepositoryHandler implements InvocationHandler {
     }
 
     private AbstractSemiStructuredRepositoryProxy<?, ?> repository(Method method) {
+        var repository = repositories.get(method);
+        if (repository == null) {
+            repository = createRepository(method);
+            repositories.putIfAbsent(method, repository);
+        }
+        return repository;
+    }
+
+    private AbstractSemiStructuredRepositoryProxy<?, ?> createRepository(Method method) {
         RepositoryMetadata result = repositoryMetadata(method);
         Class<?> entityType = result.typeClass();
         return result.metadata().map(entityMetadata -> createRepositoryProxy(template, entityMetadata, entityType, converters, entitiesMetadata))
@@ -29,6 +29,7 @@ import jakarta.data.constraint.NotIn;
 import jakarta.data.constraint.NotLike;
 import jakarta.data.constraint.NotNull;
 import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
 import jakarta.data.metamodel.BasicAttribute;
 import jakarta.data.restrict.BasicRestriction;
 import jakarta.data.restrict.CompositeRestriction;
@@ -38,9 +39,14 @@ import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
@@ -62,6 +68,11 @@ import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.
  * This utility is used internally by the query engine to transform domain-specific
  * constraints into a format suitable for building executable queries.
  * </p>
+ * <p>
+ * The repositories resolve each attribute once through their own {@link Attributes}: its field metadata and value
+ * conversion, including the {@link jakarta.nosql.AttributeConverter}, are kept with the repository, so a restriction
+ * with the same attributes only binds its values on the next calls.
+ * </p>
  *
  *
  * @see jakarta.data.restrict.Restriction
@@ -71,6 +82,8 @@ public enum RestrictionConverter {
 
     private static final Logger LOGGER = Logger.getLogger(RestrictionConverter.class.getName());
 
+    static final int MAX_ATTRIBUTES = 1_000;
+
     /**
      * Parses a {@link jakarta.data.restrict.Restriction} and attempts to convert it
      * into a {@link CriteriaCondition} based on the provided entity metadata and value converters.
@@ -88,6 +101,26 @@ public enum RestrictionConverter {
         Objects.requireNonNull(restriction, "restriction is required");
         Objects.requireNonNull(entityMetadata, "entityMetadata is required");
         Objects.requireNonNull(converters, "converters is required");
+        return parser(restriction, new Attributes(entityMetadata, converters));
+    }
+
+    /**
+     * Creates the attributes of an entity, to be kept by the caller and passed to each parse of its restrictions.
+     *
+     * @param entityMetadata metadata about the entity being queried, used to resolve attributes
+     * @param converters     converters for translating Java types to query-native formats
+     * @return the attributes of the entity
+     * @throws NullPointerException if any of the arguments are {@code null}
+     */
+    Attributes attributes(EntityMetadata entityMetadata, Converters converters) {
+        Objects.requireNonNull(entityMetadata, "entityMetadata is required");
+        Objects.requireNonNull(converters, "converters is required");
+        return new Attributes(entityMetadata, converters);
+    }
+
+    Optional<CriteriaCondition> parser(Restriction<?> restriction, Attributes attributes) {
+        Objects.requireNonNull(restriction, "restriction is required");
+        Objects.requireNonNull(attributes, "attributes is required");
 
         LOGGER.fine(() -> "Converter is invoked for restriction " + restriction);
 
@@ -96,7 +129,7 @@ public enum RestrictionConverter {
             case BasicRestriction<?, ?> basicRestriction -> {
                 if (basicRestriction.expression() instanceof BasicAttribute<?, ?> basicAttribute) {
                     Constraint<?> constraint = basicRestriction.constraint();
-                    criteriaCondition = condition(basicAttribute, constraint, entityMetadata, converters);
+                    criteriaCondition = condition(attributes.get(basicAttribute), constraint);
                 } else {
                     throw new UnsupportedOperationException("The expression " + basicRestriction.expression() + " is not supported");
                 }
@@ -107,8 +140,7 @@ public enum RestrictionConverter {
                         .stream()
                         .filter(r -> r instanceof BasicRestriction<?, ?>)
                         .map(r -> negated ? r.negate() : r)
-                        .map(r -> parser(r, entityMetadata,
-                                converters))
+                        .map(r -> parser(r, attributes))
                         .filter(Optional::isPresent)
                         .map(Optional::get)
                         .toArray(CriteriaCondition[]::new);
@@ -123,72 +155,57 @@ public enum RestrictionConverter {
         return Optional.ofNullable(criteriaCondition);
     }
 
-    private CriteriaCondition condition(BasicAttribute<?, ?> basicAttribute, Constraint<?> constraint,
-                                        EntityMetadata entityMetadata, Converters converters) {
-        var name = basicAttribute.name();
-        var fieldMetadata = entityMetadata.fieldMapping(name);
-        var converter = fieldMetadata.stream().flatMap(f -> f.converter().stream()).findFirst();
+    private CriteriaCondition condition(CompiledAttribute attribute, Constraint<?> constraint) {
+        var name = attribute.name();
 
         switch (constraint) {
             case EqualTo<?> equalTo -> {
-                var value = ValueConverter.of(equalTo::expression, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(equalTo::expression);
                 return eq(name, value);
             }
             case NotEqualTo<?> notEqualTo -> {
-                var value = ValueConverter.of(notEqualTo::expression, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(notEqualTo::expression);
                 return eq(name, value).negate();
             }
             case LessThan<?> lessThan -> {
-                var value = ValueConverter.of(lessThan::bound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(lessThan::bound);
                 return lt(name, value);
             }
 
             case GreaterThan<?> greaterThan -> {
-                var value = ValueConverter.of(greaterThan::bound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(greaterThan::bound);
                 return gt(name, value);
             }
 
             case GreaterThanOrEqual<?> greaterThanOrEqual -> {
-                var value = ValueConverter.of(greaterThanOrEqual::bound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(greaterThanOrEqual::bound);
                 return gte(name, value);
             }
 
             case LessThanOrEqual<?> lesserThanOrEqual -> {
-                var value = ValueConverter.of(lesserThanOrEqual::bound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(lesserThanOrEqual::bound);
                 return lte(name, value);
             }
 
             case Between<?> between -> {
-                var lowerBound = ValueConverter.of(between::lowerBound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
-                var upperBound = ValueConverter.of(between::upperBound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var lowerBound = attribute.value(between::lowerBound);
+                var upperBound = attribute.value(between::upperBound);
                 return between(name, List.of(lowerBound, upperBound));
             }
 
             case NotBetween<?> between -> {
-                var lowerBound = ValueConverter.of(between::lowerBound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
-                var upperBound = ValueConverter.of(between::upperBound, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var lowerBound = attribute.value(between::lowerBound);
+                var upperBound = attribute.value(between::upperBound);
                 return between(name, List.of(lowerBound, upperBound)).negate();
             }
 
             case Like like -> {
-                var value = ValueConverter.of(like::pattern, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(like::pattern);
                 return like(name, value);
             }
 
             case NotLike like -> {
-                var value = ValueConverter.of(like::pattern, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null));
+                var value = attribute.value(like::pattern);
                 return like(name, value).negate();
             }
 
@@ -201,14 +218,12 @@ public enum RestrictionConverter {
             }
 
             case In<?> in -> {
-                var values = in.expressions().stream().map(expression -> ValueConverter.of(() -> expression, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null))).toList();
+                var values = in.expressions().stream().map(expression -> attribute.value(() -> expression)).toList();
                 return in(name, values);
             }
 
             case NotIn<?> in -> {
-                var values = in.expressions().stream().map(expression -> ValueConverter.of(() -> expression, basicAttribute, converters,
-                        converter.orElse(null), fieldMetadata.orElse(null))).toList();
+                var values = in.expressions().stream().map(expression -> attribute.value(() -> expression)).toList();
                 return in(name, values).negate();
             }
 
@@ -216,4 +231,58 @@ public enum RestrictionConverter {
         }
 
     }
+
+    /**
+     * The attributes of the restrictions of an entity, resolved once each. The entity metadata and the converters
+     * are the ones of the owner, such as a repository, so the attributes go away with it; at most
+     * {@link #MAX_ATTRIBUTES} are kept, dropping the least recently used.
+     */
+    static final class Attributes {
+
+        private final EntityMetadata entityMetadata;
+
+        private final Converters converters;
+
+        private final Map<AttributeKey, CompiledAttribute> attributes = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<AttributeKey, CompiledAttribute> eldest) {
+                        return size() > MAX_ATTRIBUTES;
+                    }
+                });
+
+        private Attributes(EntityMetadata entityMetadata, Converters converters) {
+            this.entityMetadata = entityMetadata;
+            this.converters = converters;
+        }
+
+        private CompiledAttribute get(BasicAttribute<?, ?> basicAttribute) {
+            var key = new AttributeKey(basicAttribute.name(), basicAttribute.attributeType());
+            return attributes.computeIfAbsent(key, k -> compile(basicAttribute));
+        }
+
+        private CompiledAttribute compile(BasicAttribute<?, ?> basicAttribute) {
+            var fieldMetadata = entityMetadata.fieldMapping(basicAttribute.name());
+            var conversion = ValueConverter.of(basicAttribute, converters, fieldMetadata.orElse(null));
+            return new CompiledAttribute(basicAttribute.name(), conversion);
+        }
+
+        int size() {
+            return attributes.size();
+        }
+    }
+
+    private record AttributeKey(String name, Class<?> type) {
+    }
+
+    /**
+     * The attribute of a restriction resolved once against the entity: the values of each call go straight through
+     * the conversion, without looking up the field or its {@link jakarta.nosql.AttributeConverter} again.
+     */
+    private record CompiledAttribute(String name, Function<Object, Object> conversion) {
+
+        Object value(Supplier<Expression<?, ?>> supplier) {
+            return ValueConverter.of(supplier, conversion);
+        }
+    }
 }
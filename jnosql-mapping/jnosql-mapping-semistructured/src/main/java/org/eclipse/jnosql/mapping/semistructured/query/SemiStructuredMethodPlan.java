@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.query;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.query.RepositoryMethodPlan;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * The invocation plan of a semistructured repository method. Besides the {@link RepositoryMethodPlan}, it keeps
+ * what {@link BaseSemiStructuredRepository} compiles from the method: the mapper of the query results and the
+ * select or delete query template. Each one is created from the method on its first use and reused afterward.
+ */
+final class SemiStructuredMethodPlan extends RepositoryMethodPlan {
+
+    private volatile Function<Object, ?> resultMapper;
+
+    private volatile Function<Object[], SelectQuery> selectTemplate;
+
+    private volatile Function<Object[], DeleteQuery> deleteTemplate;
+
+    SemiStructuredMethodPlan(Method method, Class<?> repositoryType) {
+        super(method, repositoryType);
+    }
+
+    Function<Object, ?> resultMapper(Function<Method, Function<Object, ?>> factory) {
+        Function<Object, ?> mapper = resultMapper;
+        if (mapper == null) {
+            synchronized (this) {
+                mapper = resultMapper;
+                if (mapper == null) {
+                    mapper = factory.apply(method());
+                    resultMapper = mapper;
+                }
+            }
+        }
+        return mapper;
+    }
+
+    Function<Object[], SelectQuery> selectTemplate(Function<Method, Function<Object[], SelectQuery>> compiler) {
+        Function<Object[], SelectQuery> template = selectTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = selectTemplate;
+                if (template == null) {
+                    template = compiler.apply(method());
+                    selectTemplate = template;
+                }
+            }
+        }
+        return template;
+    }
+
+    Function<Object[], DeleteQuery> deleteTemplate(Function<Method, Function<Object[], DeleteQuery>> compiler) {
+        Function<Object[], DeleteQuery> template = deleteTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = deleteTemplate;
+                if (template == null) {
+                    template = compiler.apply(method());
+                    deleteTemplate = template;
+                }
+            }
+        }
+        return template;
+    }
+}
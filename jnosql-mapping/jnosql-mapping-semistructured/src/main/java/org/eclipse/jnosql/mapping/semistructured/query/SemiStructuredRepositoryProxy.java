@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.semistructured.query;
 
 
+import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -62,7 +63,7 @@ public class SemiStructuredRepositoryProxy<T, K> extends AbstractSemiStructuredR
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new SemiStructuredRepository<>(template, entityMetadata);
+        this.repository = new SemiStructuredRepository<>(template, entityMetadata, converters);
         this.converters = converters;
         this.repositoryType =  repositoryType;
         this.entitiesMetadata = entities;
@@ -74,7 +75,7 @@ public class SemiStructuredRepositoryProxy<T, K> extends AbstractSemiStructuredR
                                   EntitiesMetadata entities) {
         this.template = template;
         this.entityMetadata = metadata;
-        this.repository = new SemiStructuredRepository<>(template, entityMetadata);
+        this.repository = new SemiStructuredRepository<>(template, entityMetadata, converters);
         this.converters = converters;
         this.repositoryType =  typeClass;
         this.entitiesMetadata = entities;
@@ -123,9 +124,12 @@ public class SemiStructuredRepositoryProxy<T, K> extends AbstractSemiStructuredR
 
         private final EntityMetadata entityMetadata;
 
-        SemiStructuredRepository(SemiStructuredTemplate template, EntityMetadata entityMetadata) {
+        private Converters converters;
+
+        SemiStructuredRepository(SemiStructuredTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -138,6 +142,14 @@ public class SemiStructuredRepositoryProxy<T, K> extends AbstractSemiStructuredR
             return entityMetadata;
         }
 
+        @Override
+        protected Converters converters() {
+            if (Objects.isNull(converters)) {
+                this.converters = CDI.current().select(Converters.class).get();
+            }
+            return converters;
+        }
+
         /**
          * Creates a new instance of ColumnRepository.
          *
@@ -151,7 +163,7 @@ public class SemiStructuredRepositoryProxy<T, K> extends AbstractSemiStructuredR
         public static <T, K> SemiStructuredRepository<T, K> of(SemiStructuredTemplate template, EntityMetadata metadata) {
             Objects.requireNonNull(template,"template is required");
             Objects.requireNonNull(metadata,"metadata is required");
-            return new SemiStructuredRepository<>(template, metadata);
+            return new SemiStructuredRepository<>(template, metadata, null);
         }
     }
 }
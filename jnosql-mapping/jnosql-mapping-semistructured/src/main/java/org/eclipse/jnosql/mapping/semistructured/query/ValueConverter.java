@@ -22,19 +22,31 @@ import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 enum ValueConverter {
 
 INSTANCE;
 
-    static Object of(Supplier<Expression<?, ?>> supplier, BasicAttribute<?, ?> basicAttribute,
-                              Converters converters,
-                                     Class<AttributeConverter<Object, Object>> converter,
-                              FieldMetadata fieldMetadata) {
+    /**
+     * Resolves the conversion of the values of an attribute: through its {@link AttributeConverter} when the field
+     * has one, otherwise into the attribute type.
+     */
+    static Function<Object, Object> of(BasicAttribute<?, ?> basicAttribute, Converters converters,
+                                       FieldMetadata fieldMetadata) {
+        if (fieldMetadata != null && fieldMetadata.converter().isPresent()) {
+            AttributeConverter<Object, Object> attributeConverter = converters.get(fieldMetadata);
+            return attributeConverter::convertToDatabaseColumn;
+        }
+        Class<?> type = basicAttribute.attributeType();
+        return value -> Value.of(value).get(type);
+    }
+
+    static Object of(Supplier<Expression<?, ?>> supplier, Function<Object, Object> conversion) {
         var expression = supplier.get();
         var literal = getLiteral(expression);
-        return getValue(basicAttribute, converters, literal, converter, fieldMetadata);
+        return conversion.apply(literal.value());
     }
 
     private static Literal<?> getLiteral(Expression<?, ?> expression) {
@@ -44,16 +56,4 @@ INSTANCE;
             throw new UnsupportedOperationException("Currently only Literal values are supported for EqualTo constraints, but got: " + expression);
         }
     }
-
-    private static Object getValue(BasicAttribute<?, ?> basicAttribute, Converters converters,
-                                   Literal<?> literal,
-                                   Class<AttributeConverter<Object, Object>> converter,
-                                   FieldMetadata fieldMetadata) {
-        if (converter != null) {
-            var attributeConverter = converters.get(fieldMetadata);
-            return attributeConverter.convertToDatabaseColumn(literal.value());
-        } else {
-            return Value.of(literal.value()).get(basicAttribute.attributeType());
-        }
-    }
 }
@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractAsyncSemiStructuredTemplateTest {
+
+    private SemiStructuredTemplate template;
+
+    private AsyncSemiStructuredTemplate asyncTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.template = Mockito.mock(SemiStructuredTemplate.class);
+        this.asyncTemplate = async(template);
+    }
+
+    @Test
+    void shouldInsert() {
+        var person = Person.builder().name("Ada").build();
+        when(template.insert(person)).thenReturn(person);
+
+        var result = asyncTemplate.insert(person).toCompletableFuture().join();
+
+        assertThat(result).isSameAs(person);
+    }
+
+    @Test
+    void shouldFind() {
+        var person = Person.builder().id(1L).name("Ada").build();
+        when(template.find(Person.class, 1L)).thenReturn(Optional.of(person));
+
+        var result = asyncTemplate.find(Person.class, 1L).toCompletableFuture().join();
+
+        assertThat(result).contains(person);
+    }
+
+    @Test
+    void shouldCountAndExists() {
+        SelectQuery query = select().from("Person").build();
+        when(template.count(query)).thenReturn(3L);
+        when(template.exists(query)).thenReturn(true);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(asyncTemplate.count(query).toCompletableFuture().join()).isEqualTo(3L);
+            soft.assertThat(asyncTemplate.exists(query).toCompletableFuture().join()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        SelectQuery query = select().from("Person").build();
+        when(template.count(query)).thenThrow(new UnsupportedOperationException("count"));
+
+        assertThatThrownBy(() -> asyncTemplate.count(query).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> asyncTemplate.insert(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.select(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.find(Person.class, null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldLimitConcurrency() {
+        System.setProperty(Configurations.ASYNC_CONCURRENCY.get(), "2");
+        try {
+            var limited = async(template);
+            var running = new AtomicInteger();
+            var max = new AtomicInteger();
+            when(template.insert(any(Person.class))).thenAnswer(invocation -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                return invocation.getArgument(0);
+            });
+
+            var futures = IntStream.range(0, 10)
+                    .mapToObj(index -> limited.insert(Person.builder().id(index).build()).toCompletableFuture())
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            assertThat(max.get()).isBetween(1, 2);
+        } finally {
+            System.clearProperty(Configurations.ASYNC_CONCURRENCY.get());
+        }
+    }
+
+    @Test
+    void shouldPublishOnDemand() throws InterruptedException {
+        SelectQuery query = select().from("Person").build();
+        when(template.select(query)).thenReturn(Stream.of(1, 2, 3, 4, 5));
+        var subscriber = new TestSubscriber<Integer>();
+        asyncTemplate.<Integer>select(query).subscribe(subscriber);
+
+        subscriber.request(2);
+        subscriber.awaitItems(2);
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(subscriber.items).containsExactly(1, 2);
+
+        subscriber.request(10);
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void shouldCloseStreamWhenCancelled() throws InterruptedException {
+        SelectQuery query = select().from("Person").build();
+        var closed = new CountDownLatch(1);
+        when(template.select(query)).thenReturn(Stream.of(1, 2, 3).onClose(closed::countDown));
+        var subscriber = new TestSubscriber<Integer>();
+        asyncTemplate.<Integer>select(query).subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.awaitItems(1);
+        subscriber.subscription.cancel();
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.completed.getCount()).isOne();
+    }
+
+    @Test
+    void shouldSignalErrorWhenRequestIsNotPositive() throws InterruptedException {
+        SelectQuery query = select().from("Person").build();
+        when(template.select(query)).thenReturn(Stream.of(1, 2, 3));
+        var subscriber = new TestSubscriber<Integer>();
+        asyncTemplate.<Integer>select(query).subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertThat(subscriber.failed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.error.get()).isInstanceOf(IllegalArgumentException.class);
+        verify(template, never()).select(query);
+    }
+
+    @Test
+    void shouldReleasePermitWhileStreamIsRead() throws Exception {
+        System.setProperty(Configurations.ASYNC_CONCURRENCY.get(), "1");
+        try {
+            var limited = async(template);
+            SelectQuery query = select().from("Person").build();
+            when(template.select(query)).thenReturn(Stream.of(1, 2, 3));
+            when(template.count(query)).thenReturn(3L);
+            var subscriber = new TestSubscriber<Integer>();
+            limited.<Integer>select(query).subscribe(subscriber);
+
+            subscriber.request(1);
+            subscriber.awaitItems(1);
+
+            assertThat(limited.count(query).toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+            subscriber.subscription.cancel();
+        } finally {
+            System.clearProperty(Configurations.ASYNC_CONCURRENCY.get());
+        }
+    }
+
+    @Test
+    void shouldAcceptSingleSubscriber() {
+        SelectQuery query = select().from("Person").build();
+        Flow.Publisher<Integer> publisher = asyncTemplate.select(query);
+        publisher.subscribe(new TestSubscriber<>());
+        var second = new TestSubscriber<Integer>();
+
+        publisher.subscribe(second);
+
+        assertThat(second.error.get()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AsyncSemiStructuredTemplate async(SemiStructuredTemplate template) {
+        return new AbstractAsyncSemiStructuredTemplate() {
+            @Override
+            protected SemiStructuredTemplate template() {
+                return template;
+            }
+        };
+    }
+
+    private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            failed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void awaitItems(int size) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (items.size() < size && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import jakarta.nosql.MappingException;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.Configurations;
@@ -50,18 +51,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -220,11 +226,12 @@ class DefaultSemiStructuredTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class), Mockito.eq(duration)))
-                .thenReturn(communicationEntity);
+                        .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, never()).insert(any(CommunicationEntity.class), any(Duration.class));
     }
 
     @Test
@@ -233,11 +240,54 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .insert(any(Iterable.class)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
+
+        Iterable<Person> result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, never()).insert(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        System.setProperty(Configurations.BATCH_SIZE.get(), "2");
+        try {
+            var calls = new AtomicInteger();
+            Mockito.when(managerMock.insert(any(Iterable.class))).thenAnswer(invocation -> {
+                calls.incrementAndGet();
+                return invocation.getArgument(0);
+            });
+
+            Iterable<Person> result = template.insert(List.of(person, person, person, person, person));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class));
+            assertEquals(3, calls.get());
+            assertThat(result).hasSize(5);
+            verify(eventPersistManager, times(5)).firePostEntity(any(Person.class));
+        } finally {
+            System.clearProperty(Configurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldKeepEntitiesWhenManagerReturnsNone() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(List.of());
+
+        Iterable<Person> result = template.insert(List.of(person, person));
+
+        assertThat(result).hasSize(2);
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerReturnsFewerEntities() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(List.of(communicationEntity));
+
+        assertThrows(MappingException.class, () -> template.insert(List.of(person, person)));
     }
 
     @Test
@@ -246,11 +296,12 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .update(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .update(any(Iterable.class)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(CommunicationEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, never()).update(any(CommunicationEntity.class));
     }
 
     @Test
@@ -594,6 +645,120 @@ class DefaultSemiStructuredTemplateTest {
         });
     }
 
+    @Test
+    void shouldCountTotalOfOffSetPage() {
+        System.setProperty(Configurations.PAGINATION_TOTAL.get(), "true");
+        try {
+            PageRequest request = PageRequest.ofPage(1).size(1);
+            SelectQuery query = select().from("Person").where("name").eq("Ada").orderBy("name").asc().build();
+            Mockito.when(managerMock.select(any())).thenReturn(content().stream());
+            Mockito.when(managerMock.count(any(SelectQuery.class))).thenReturn(5L);
+
+            Page<Person> result = template.selectOffSet(query, request);
+            var captor = ArgumentCaptor.forClass(SelectQuery.class);
+            verify(managerMock).count(captor.capture());
+            SelectQuery count = captor.getValue();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(result.content()).hasSize(1);
+                soft.assertThat(result.hasTotals()).isTrue();
+                soft.assertThat(result.totalElements()).isEqualTo(5L);
+                soft.assertThat(result.totalPages()).isEqualTo(5L);
+                soft.assertThat(count.name()).isEqualTo("Person");
+                soft.assertThat(count.condition()).isEqualTo(query.condition());
+                soft.assertThat(count.sorts()).isEmpty();
+                soft.assertThat(count.skip()).isZero();
+                soft.assertThat(count.limit()).isZero();
+            });
+        } finally {
+            System.clearProperty(Configurations.PAGINATION_TOTAL.get());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReuseTotalOfTheTemplate() {
+        System.setProperty(Configurations.PAGINATION_TOTAL.get(), "true");
+        System.setProperty(Configurations.PAGINATION_TOTAL_CACHE.get(), "60000");
+        try {
+            List<Thread> threads = new ArrayList<>();
+            Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+            Mockito.when(instance.get()).thenReturn(managerMock);
+            var counting = new DefaultSemiStructuredTemplate(converter, instance, eventPersistManager, entities,
+                    converters) {
+                @Override
+                protected Executor pageTotalExecutor() {
+                    return task -> {
+                        threads.add(Thread.currentThread());
+                        task.run();
+                    };
+                }
+            };
+            SelectQuery query = select().from("Person").where("name").eq("Ada").build();
+            Mockito.when(managerMock.select(any())).thenAnswer(invocation -> content().stream());
+            Mockito.when(managerMock.count(any(SelectQuery.class))).thenReturn(5L);
+
+            Page<Person> first = counting.selectOffSet(query, PageRequest.ofPage(1).size(1));
+            Page<Person> second = counting.selectOffSet(query, PageRequest.ofPage(2).size(1));
+            Page<Person> other = template.selectOffSet(query, PageRequest.ofPage(1).size(1));
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(first.totalElements()).isEqualTo(5L);
+                soft.assertThat(second.totalElements()).isEqualTo(5L);
+                soft.assertThat(other.totalElements()).isEqualTo(5L);
+                soft.assertThat(threads).containsExactly(Thread.currentThread());
+            });
+            verify(managerMock, times(2)).count(any(SelectQuery.class));
+        } finally {
+            System.clearProperty(Configurations.PAGINATION_TOTAL.get());
+            System.clearProperty(Configurations.PAGINATION_TOTAL_CACHE.get());
+        }
+    }
+
+    @Test
+    void shouldComputeTotalFromTheLastOffSetPage() {
+        System.setProperty(Configurations.PAGINATION_TOTAL.get(), "true");
+        try {
+            PageRequest request = PageRequest.ofPage(3).size(10);
+            SelectQuery query = select().from("Person").build();
+            Mockito.when(managerMock.select(any())).thenReturn(content().stream());
+
+            Page<Person> result = template.selectOffSet(query, request);
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(result.totalElements()).isEqualTo(21L);
+                soft.assertThat(result.totalPages()).isEqualTo(3L);
+            });
+        } finally {
+            System.clearProperty(Configurations.PAGINATION_TOTAL.get());
+        }
+    }
+
+    @Test
+    void shouldNotCountWhenTotalIsNotRequested() {
+        System.setProperty(Configurations.PAGINATION_TOTAL.get(), "true");
+        try {
+            PageRequest request = PageRequest.ofPage(1).size(1).withoutTotal();
+            SelectQuery query = select().from("Person").build();
+            Mockito.when(managerMock.select(any())).thenReturn(content().stream());
+
+            Page<Person> result = template.selectOffSet(query, request);
+            assertThat(result.hasTotals()).isFalse();
+            verify(managerMock, never()).count(any(SelectQuery.class));
+        } finally {
+            System.clearProperty(Configurations.PAGINATION_TOTAL.get());
+        }
+    }
+
+    @Test
+    void shouldSelectConvertingInParallel() {
+        SelectQuery query = select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenReturn(people(100).stream());
+
+        try (Stream<Person> result = template.select(query, ParallelConversion.of(4))) {
+            assertThat(result.map(Person::getId).toList())
+                    .containsExactlyElementsOf(Stream.iterate(1L, id -> id + 1).limit(100).toList());
+        }
+    }
+
     @Test
     void shouldFindByIdUsingInheritance() {
 
@@ -635,6 +800,14 @@ class DefaultSemiStructuredTemplateTest {
 
 
 
+    private List<CommunicationEntity> people(int size) {
+        List<CommunicationEntity> people = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            people.add(CommunicationEntity.of("Person", List.of(Element.of("_id", id), Element.of("name", "Ada"))));
+        }
+        return people;
+    }
+
     private List<CommunicationEntity> content() {
         CommunicationEntity columnEntity = CommunicationEntity.of("Person");
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ElementIndexTest {
+
+    @Test
+    void shouldFindElementByName() {
+        var name = Element.of("name", "Ada");
+        var age = Element.of("age", 10);
+        var index = ElementIndex.of(List.of(name, age));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(index.contains("name")).isTrue();
+            soft.assertThat(index.contains("city")).isFalse();
+            soft.assertThat(index.first("age")).isSameAs(age);
+            soft.assertThat(index.firstWithValue("name")).isSameAs(name);
+            soft.assertThat(index.first("city")).isNull();
+            soft.assertThat(index.elements()).containsExactly(name, age);
+        });
+    }
+
+    @Test
+    void shouldKeepNullElement() {
+        var empty = Element.of("name", null);
+        var index = ElementIndex.of(List.of(empty));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(index.contains("name")).isTrue();
+            soft.assertThat(index.first("name")).isSameAs(empty);
+            soft.assertThat(index.firstWithValue("name")).isNull();
+        });
+    }
+
+    @Test
+    void shouldReturnFirstElementWithValueWhenNameIsDuplicated() {
+        var empty = Element.of("name", null);
+        var ada = Element.of("name", "Ada");
+        var grace = Element.of("name", "Grace");
+        var index = ElementIndex.of(List.of(empty, ada, grace));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(index.first("name")).isSameAs(empty);
+            soft.assertThat(index.firstWithValue("name")).isSameAs(ada);
+        });
+    }
+
+    @Test
+    void shouldIndexWideStructures() {
+        var elements = IntStream.range(0, 40).mapToObj(i -> Element.of("column" + i, i)).toList();
+        var index = ElementIndex.of(elements);
+
+        SoftAssertions.assertSoftly(soft -> IntStream.range(0, 40)
+                .forEach(i -> soft.assertThat(index.firstWithValue("column" + i)).isSameAs(elements.get(i))));
+    }
+}
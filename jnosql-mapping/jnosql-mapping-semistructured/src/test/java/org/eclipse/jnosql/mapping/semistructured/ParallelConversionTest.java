@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelConversionTest {
+
+    private static final Function<CommunicationEntity, Integer> ID = entity -> {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return entity.find("_id", Integer.class).orElseThrow();
+    };
+
+    @Test
+    void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThatThrownBy(() -> new ParallelConversion(0, 10, true)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelConversion(2, 0, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldConvertSequentially() {
+        assertThat(ParallelConversion.SEQUENTIAL.isSequential()).isTrue();
+        try (Stream<Integer> ids = ParallelConversion.SEQUENTIAL.apply(rows(10), ID)) {
+            assertThat(ids.toList()).containsExactlyElementsOf(range(10));
+        }
+    }
+
+    @Test
+    void shouldKeepTheOrder() {
+        try (Stream<Integer> ids = new ParallelConversion(8, 16, true).apply(rows(500), ID)) {
+            assertThat(ids.toList()).containsExactlyElementsOf(range(500));
+        }
+    }
+
+    @Test
+    void shouldConvertWithoutOrder() {
+        try (Stream<Integer> ids = new ParallelConversion(8, 16, false).apply(rows(500), ID)) {
+            assertThat(ids.toList()).containsExactlyInAnyOrderElementsOf(range(500));
+        }
+    }
+
+    @Test
+    void shouldReturnConversionError() throws InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<CommunicationEntity> rows = rows(100).onClose(closed::countDown);
+        Function<CommunicationEntity, Integer> converter = entity -> {
+            int id = ID.apply(entity);
+            if (id == 50) {
+                throw new IllegalStateException("invalid row");
+            }
+            return id;
+        };
+        try (Stream<Integer> ids = ParallelConversion.of(4).apply(rows, converter)) {
+            assertThatThrownBy(ids::toList).isInstanceOf(IllegalStateException.class).hasMessage("invalid row");
+        }
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldStopReadingWhenClosed() throws InterruptedException {
+        AtomicInteger read = new AtomicInteger();
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<CommunicationEntity> rows = Stream.generate(() -> row(read.incrementAndGet()))
+                .onClose(closed::countDown);
+
+        Stream<Integer> ids = new ParallelConversion(2, 10, true).apply(rows, ID);
+        Iterator<Integer> iterator = ids.iterator();
+        for (int index = 1; index <= 5; index++) {
+            assertThat(iterator.next()).isEqualTo(index);
+        }
+        ids.close();
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(read.get()).isLessThanOrEqualTo(16);
+    }
+
+    private static Stream<CommunicationEntity> rows(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(ParallelConversionTest::row);
+    }
+
+    private static CommunicationEntity row(int id) {
+        return CommunicationEntity.of("Person", List.of(Element.of("_id", id)));
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.rangeClosed(1, size).boxed().toList();
+    }
+}
@@ -87,4 +87,22 @@ class ProjectorConverterTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReuseProjectionForSeveralEntities() {
+        var projection = entitiesMetadata.projection(CitizenGeographySummary.class).orElseThrow();
+        City london = City.of("1", "London");
+        City paris = City.of("2", "Paris");
+
+        CitizenGeographySummary first = converter.map(Citizen.of("1", "Ada Lovelace", london), projection);
+        CitizenGeographySummary empty = converter.map(Citizen.of("2", "Alan Turing"), projection);
+        CitizenGeographySummary second = converter.map(Citizen.of("3", "Grace Hopper", paris), projection);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(first.name()).isEqualTo("London");
+            softly.assertThat(empty.name()).isNull();
+            softly.assertThat(second.name()).isEqualTo("Paris");
+            softly.assertThat(second.city()).isEqualTo(paris);
+        });
+    }
+
+}
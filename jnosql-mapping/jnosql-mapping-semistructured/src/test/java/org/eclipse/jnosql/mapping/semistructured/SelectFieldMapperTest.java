@@ -25,6 +25,7 @@ import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.entities.Money;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -34,10 +35,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @EnableAutoWeld
@@ -131,5 +134,47 @@ class SelectFieldMapperTest {
         });
     }
 
+    @Test
+    void shouldSelectFieldWithoutCreatingEntity() {
+        EntityConverter entityConverter = Mockito.mock(EntityConverter.class);
+        var projectionTemplate = new DefaultSemiStructuredTemplate(entityConverter, instance(),
+                eventPersistManager, entities, converters);
+        CommunicationEntity entity = CommunicationEntity.of("Person", columns);
+        Mockito.when(managerMock.select(Mockito.any(SelectQuery.class))).thenAnswer(a -> Stream.of(entity));
+
+        List<Object[]> result = projectionTemplate.<Object[]>query("select age, name from Person").toList();
+
+        SoftAssertions.assertSoftly(s -> {
+            s.assertThat(result).hasSize(1).contains(new Object[]{10, "Name"});
+            Mockito.verify(entityConverter, Mockito.never()).toEntity(Mockito.any(CommunicationEntity.class));
+        });
+    }
+
+    @Test
+    void shouldSelectFieldWithConverter() {
+        CommunicationEntity entity = CommunicationEntity.of("Product", List.of(Element.of("name", "Mac"),
+                Element.of("amount", "USD 10")));
+        Mockito.when(managerMock.select(Mockito.any(SelectQuery.class))).thenAnswer(a -> Stream.of(entity));
+
+        List<Money> result = template.<Money>query("select amount from Product").toList();
 
-}
\ No newline at end of file
+        assertThat(result).containsExactly(new Money("USD", BigDecimal.TEN));
+    }
+
+    @Test
+    void shouldCreateEntityWhenFieldIsMissing() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", List.of(Element.of("name", "Name")));
+        Mockito.when(managerMock.select(Mockito.any(SelectQuery.class))).thenAnswer(a -> Stream.of(entity));
+
+        List<Object[]> result = template.<Object[]>query("select age, name from Person").toList();
+
+        assertThat(result).hasSize(1).contains(new Object[]{0, "Name"});
+    }
+
+    @SuppressWarnings("unchecked")
+    private Instance<DatabaseManager> instance() {
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return instance;
+    }
+}
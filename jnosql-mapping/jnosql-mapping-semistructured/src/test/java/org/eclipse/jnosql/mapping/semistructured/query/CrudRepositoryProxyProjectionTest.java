@@ -50,10 +50,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.Condition.EQUALS;
@@ -84,6 +86,7 @@ class CrudRepositoryProxyProjectionTest {
     @BeforeEach
     public void setUp() {
         this.template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
 
         var productHandler = new SemiStructuredRepositoryProxy<>(template,
                 entities, ProductRepository.class, converters);
@@ -130,6 +133,7 @@ class CrudRepositoryProxyProjectionTest {
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(query.name()).isEqualTo("Product");
+            softly.assertThat(query.columns()).containsExactly(_Product.NAME);
             softly.assertThat(query.condition()).isPresent();
             CriteriaCondition condition = query.condition().orElseThrow();
             softly.assertThat(condition).isInstanceOf(CriteriaCondition.class);
@@ -379,6 +383,21 @@ class CrudRepositoryProxyProjectionTest {
     }
 
 
+    @Test
+    void shouldReuseResultMapperPerMethod() throws NoSuchMethodException {
+        var handler = new SemiStructuredRepositoryProxy<>(template, entities, ProductRepository.class, converters);
+        Method method = ProductRepository.class.getMethod("query");
+        var mac = new Product();
+        mac.setName("Mac");
+
+        Function<Object, Object> mapper = handler.mapper(method);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(handler.<Object>mapper(method)).isSameAs(mapper);
+            softly.assertThat(mapper.apply(mac)).isEqualTo("Mac");
+        });
+    }
+
     public interface ProductRepository extends CrudRepository<Product, String> {
         @Find
         @Select(_Product.NAME)
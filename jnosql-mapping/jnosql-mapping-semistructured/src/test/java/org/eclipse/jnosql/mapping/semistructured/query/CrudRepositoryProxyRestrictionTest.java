@@ -84,6 +84,7 @@ class CrudRepositoryProxyRestrictionTest {
     @BeforeEach
     public void setUp() {
         this.template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
 
         var productHandler = new SemiStructuredRepositoryProxy<>(template,
                 entities, ProductRepository.class, converters);
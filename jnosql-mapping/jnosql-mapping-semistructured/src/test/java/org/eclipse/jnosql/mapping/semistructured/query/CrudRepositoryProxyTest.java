@@ -80,7 +80,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,6 +108,7 @@ class CrudRepositoryProxyTest {
     @BeforeEach
     public void setUp() {
         this.template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
 
         var personHandler = new SemiStructuredRepositoryProxy<>(template,
                 entities, PersonRepository.class, converters);
@@ -170,18 +170,37 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.empty());
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
                 .id(10L)
                 .phones(singletonList("123123"))
                 .build();
 
         personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template).insert(List.of(person));
+        verify(template, Mockito.never()).insert(any(Person.class));
+    }
+
+    @Test
+    void shouldSaveIterableSplittingInsertsAndUpdates() {
+        Person ada = Person.builder().name("Ada").id(10L).build();
+        Person poliana = Person.builder().name("Poliana").id(20L).build();
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(Person.builder().id(20L).build()));
+
+        personRepository.saveAll(List.of(ada, poliana));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verify(template).insert(List.of(ada));
+        verify(template).update(List.of(poliana));
+        SelectQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(query.columns()).containsExactly("_id");
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(10L, 20L));
+        });
     }
 
 
@@ -373,14 +392,40 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        when(template.select(any(SelectQuery.class)))
+                .thenReturn(Stream.of(Person.builder().build()));
 
         personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verify(template, Mockito.never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        SelectQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(query.name()).isEqualTo("Person");
+            softly.assertThat(query.columns()).isEmpty();
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().name()).isEqualTo("_id");
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(1L, 2L, 3L));
+        });
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void shouldConvertIdsOnFindByIds() {
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+
+        ((NoSQLRepository) personRepository).findByIdIn(asList("1", "2")).toList();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verify(template, Mockito.never()).find(Mockito.eq(Person.class), Mockito.any());
+        CriteriaCondition condition = captor.getValue().condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(1L, 2L));
+        });
     }
 
     @Test
@@ -393,8 +438,16 @@ class CrudRepositoryProxyTest {
     @Test
     void shouldDeleteByIds() {
         ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
-        personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        personRepository.deleteByIdIn(asList(10L, 20L));
+        verify(template).delete(captor.capture());
+        verify(template, Mockito.never()).delete(Mockito.eq(Person.class), Mockito.any(Long.class));
+        DeleteQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(query.name()).isEqualTo("Person");
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(10L, 20L));
+        });
     }
 
 
@@ -83,6 +83,7 @@ class CustomCrudRepositoryProxyProjectionTest {
     @BeforeEach
     public void setUp() {
         this.template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
 
         var productHandler = CustomRepositoryHandler.builder()
                 .entitiesMetadata(entities)
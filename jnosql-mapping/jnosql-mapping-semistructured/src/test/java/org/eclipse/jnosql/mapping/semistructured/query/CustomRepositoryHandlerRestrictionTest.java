@@ -74,6 +74,7 @@ class CustomRepositoryHandlerRestrictionTest {
     @BeforeEach
     void setUp() {
         template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
         CustomRepositoryHandler customRepositoryHandlerForPeople = CustomRepositoryHandler.builder()
                 .entitiesMetadata(entitiesMetadata)
                 .template(template)
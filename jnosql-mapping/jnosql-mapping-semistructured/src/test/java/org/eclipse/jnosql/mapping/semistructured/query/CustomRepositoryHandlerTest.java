@@ -83,6 +83,7 @@ class CustomRepositoryHandlerTest {
     @BeforeEach
     void setUp() {
         template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
         CustomRepositoryHandler customRepositoryHandlerForPeople = CustomRepositoryHandler.builder()
                 .entitiesMetadata(entitiesMetadata)
                 .template(template)
@@ -537,6 +538,18 @@ class CustomRepositoryHandlerTest {
         Assertions.assertThat(people.updateReturnLong("Ada")).isEqualTo(1L);
     }
 
+    @Test
+    void shouldReturnUpdateCountFromUpdateQuery() {
+        var preparedStatement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        Mockito.when(template.prepare(Mockito.anyString(), Mockito.any())).thenReturn(preparedStatement);
+        Mockito.when(preparedStatement.isUpdate()).thenReturn(true);
+        Mockito.when(preparedStatement.count()).thenReturn(3L);
+
+        Assertions.assertThat(people.updateReturnLong("Ada")).isEqualTo(3L);
+        Mockito.verify(preparedStatement, Mockito.never()).result();
+        Mockito.verify(preparedStatement, Mockito.never()).singleResult();
+    }
+
     @Test
     void shouldFindAll() {
 
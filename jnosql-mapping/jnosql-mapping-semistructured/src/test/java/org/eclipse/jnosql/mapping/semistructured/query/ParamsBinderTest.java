@@ -24,6 +24,7 @@ import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.QueryParams;
 import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, EntityConverter.class})
@@ -110,6 +112,35 @@ class ParamsBinderTest {
 
     }
 
+    @Test
+    void shouldBindTemplate() {
+
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals("findByAgeAndName")).findFirst().get();
+        EntityMetadata entityMetadata = mappings.get(Person.class);
+        RepositorySemiStructuredObserverParser parser = new RepositorySemiStructuredObserverParser(entityMetadata);
+        paramsBinder = new ParamsBinder(entityMetadata, converters);
+
+        SelectQuery selectQuery = SelectMethodProvider.INSTANCE.apply(method, entityMetadata.name());
+        var template = new SelectQueryParser().apply(selectQuery, parser).template();
+        var binder = paramsBinder.binder(template.parameters(), method);
+
+        var first = template.bind(binder.apply(new Object[]{10L, "Ada"}));
+        var second = template.bind(binder.apply(new Object[]{20L, "Poliana"}));
+
+        assertEquals(List.of(10, "Ada"), values(first));
+        assertEquals(List.of(20, "Poliana"), values(second));
+        assertThrows(DynamicQueryException.class, () -> binder.apply(new Object[]{10L}));
+    }
+
+    private static List<Object> values(org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
+        List<CriteriaCondition> conditions = query.condition().orElseThrow().element().get(new TypeReference<>() {
+        });
+        return conditions.stream().map(CriteriaCondition::element)
+                .map(Element::value)
+                .map(Value::get).toList();
+    }
+
 
     interface PersonRepository {
 
@@ -105,6 +105,7 @@ public class RepositoryProxyPageRequestTest {
     @BeforeEach
     public void setUp() {
         this.template = Mockito.mock(SemiStructuredTemplate.class);
+        Mockito.doCallRealMethod().when(template).selectOffSet(Mockito.any(), Mockito.any(), Mockito.any());
 
         SemiStructuredRepositoryProxy personHandler = new SemiStructuredRepositoryProxy(template,
                 entities, PersonRepository.class, converters);
@@ -168,18 +168,16 @@ class RepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.empty());
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
                 .id(10L)
                 .phones(singletonList("123123"))
                 .build();
 
         personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template).insert(List.of(person));
+        verify(template, Mockito.never()).insert(any(Person.class));
     }
 
 
@@ -289,14 +287,23 @@ class RepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        when(template.select(any(SelectQuery.class)))
+                .thenReturn(Stream.of(Person.builder().build()));
 
         personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verify(template, Mockito.never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        SelectQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(query.name()).isEqualTo("Person");
+            softly.assertThat(query.columns()).isEmpty();
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().name()).isEqualTo("_id");
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(1L, 2L, 3L));
+        });
     }
 
     @Test
@@ -309,8 +316,16 @@ class RepositoryProxyTest {
     @Test
     void shouldDeleteByIds() {
         ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
-        personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        personRepository.deleteByIdIn(asList(10L, 20L));
+        verify(template).delete(captor.capture());
+        verify(template, Mockito.never()).delete(Mockito.eq(Person.class), Mockito.any(Long.class));
+        DeleteQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(query.name()).isEqualTo("Person");
+            softly.assertThat(condition.condition()).isEqualTo(IN);
+            softly.assertThat(condition.element().get()).isEqualTo(List.of(10L, 20L));
+        });
     }
 
 
@@ -361,7 +376,11 @@ class RepositoryProxyTest {
     void shouldDeleteEntities(){
         Person person = Person.builder().id(1L).age(20).name("Ada").build();
         personRepository.deleteAll(List.of(person));
-        verify(template).delete(Person.class, 1L);
+        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(template).delete(captor.capture());
+        CriteriaCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals(IN, condition.condition());
+        assertEquals(List.of(1L), condition.element().get());
     }
 
     @Test
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.semistructured.query;
 
+import jakarta.data.metamodel.TextAttribute;
 import jakarta.data.restrict.Restrict;
 import jakarta.data.restrict.Restriction;
 import jakarta.inject.Inject;
@@ -487,5 +488,60 @@ class RestrictionConverterTest {
         });
     }
 
+    @Test
+    void shouldBindTheValuesOfEachCall() {
+        for (int index = 1; index <= 3; index++) {
+            BigDecimal price = BigDecimal.valueOf(index);
+            Money amount = new Money("USD", BigDecimal.valueOf(index * 100L));
+            Restriction<Product> restriction = Restrict.all(_Product.price.greaterThan(price),
+                    _Product.amount.equalTo(amount));
+
+            var condition = RestrictionConverter.INSTANCE.parser(restriction, entityMetadata, converters).orElseThrow();
+            var conditions = condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+            });
+
+            String expectedAmount = "USD " + index * 100;
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(conditions.get(0).element().name()).isEqualTo(_Product.PRICE);
+                soft.assertThat(conditions.get(0).element().get()).isEqualTo(price);
+                soft.assertThat(conditions.get(1).element().name()).isEqualTo(_Product.AMOUNT);
+                soft.assertThat(conditions.get(1).element().get()).isEqualTo(expectedAmount);
+            });
+        }
+    }
+
+    @Test
+    void shouldKeepTheAttributesOfEachOwner() {
+        var attributes = RestrictionConverter.INSTANCE.attributes(entityMetadata, converters);
+        var other = RestrictionConverter.INSTANCE.attributes(entityMetadata, converters);
+        Restriction<Product> restriction = Restrict.all(_Product.name.equalTo("Macbook Pro"),
+                _Product.price.greaterThan(BigDecimal.TEN));
 
-}
\ No newline at end of file
+        RestrictionConverter.INSTANCE.parser(restriction, attributes);
+        var condition = RestrictionConverter.INSTANCE.parser(restriction, attributes).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.AND);
+            soft.assertThat(attributes.size()).isEqualTo(2);
+            soft.assertThat(other.size()).isZero();
+        });
+    }
+
+    @Test
+    void shouldDropTheLeastRecentlyUsedAttributes() {
+        var attributes = RestrictionConverter.INSTANCE.attributes(entityMetadata, converters);
+        for (int index = 0; index <= RestrictionConverter.MAX_ATTRIBUTES; index++) {
+            Restriction<Product> restriction = TextAttribute.of(Product.class, "field" + index).equalTo("value");
+            RestrictionConverter.INSTANCE.parser(restriction, attributes);
+        }
+
+        var condition = RestrictionConverter.INSTANCE.parser(_Product.name.equalTo("Macbook Pro"), attributes)
+                .orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(attributes.size()).isEqualTo(RestrictionConverter.MAX_ATTRIBUTES);
+            soft.assertThat(condition.element().name()).isEqualTo(_Product.NAME);
+            soft.assertThat(condition.element().get()).isEqualTo("Macbook Pro");
+        });
+    }
+}
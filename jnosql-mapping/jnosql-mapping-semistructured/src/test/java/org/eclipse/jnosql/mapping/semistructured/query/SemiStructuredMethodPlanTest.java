@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.query;
+
+import jakarta.data.repository.CrudRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.query.RepositoryType;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class SemiStructuredMethodPlanTest {
+
+    @Test
+    void shouldCompileSelectTemplateOnce() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        var plan = new SemiStructuredMethodPlan(method, PersonRepository.class);
+        var calls = new AtomicInteger();
+        Function<Object[], SelectQuery> template = args -> Mockito.mock(SelectQuery.class);
+
+        var first = plan.selectTemplate(m -> {
+            calls.incrementAndGet();
+            return template;
+        });
+        var second = plan.selectTemplate(m -> {
+            calls.incrementAndGet();
+            return args -> null;
+        });
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(plan.type()).isEqualTo(RepositoryType.FIND_BY);
+            soft.assertThat(first).isSameAs(template);
+            soft.assertThat(second).isSameAs(template);
+            soft.assertThat(calls).hasValue(1);
+        });
+    }
+
+    @Test
+    void shouldKeepEachCompiledValueApart() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+        var plan = new SemiStructuredMethodPlan(method, PersonRepository.class);
+        Function<Object[], DeleteQuery> template = args -> Mockito.mock(DeleteQuery.class);
+        Function<Object, ?> mapper = value -> value;
+
+        var delete = plan.deleteTemplate(m -> template);
+        var result = plan.resultMapper(m -> mapper);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(delete).isSameAs(template);
+            soft.assertThat(result).isSameAs(mapper);
+            soft.assertThat(plan.resultMapper(m -> value -> null)).isSameAs(mapper);
+        });
+    }
+
+    interface PersonRepository extends CrudRepository<Person, Long> {
+
+        List<Person> findByName(String name);
+
+        void deleteByName(String name);
+    }
+}